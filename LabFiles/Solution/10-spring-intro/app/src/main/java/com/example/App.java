@@ -1,13 +1,17 @@
 package com.example;
 
-import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
+import com.example.support.StartupProfiler;
+
 public class App {
 
     public static void main(String[] args) {
-        ApplicationContext spring = 
-            new AnnotationConfigApplicationContext(Config.class);
+        //  -Dstartup.profile=<dir> writes a startup timing table and a JFR recording there.
+        AnnotationConfigApplicationContext spring = 
+            StartupProfiler.attachIfEnabled(new AnnotationConfigApplicationContext());
+        spring.register(Config.class);
+        spring.refresh();
 
         Greeting greetingBean = spring.getBean(Greeting.class);        
         System.out.println(greetingBean.getGreeting());
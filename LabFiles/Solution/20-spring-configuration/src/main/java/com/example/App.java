@@ -3,18 +3,20 @@
  */
 package com.example;
 
-import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 import com.example.service.Register;
+import com.example.support.StartupProfiler;
 
 public class App {
 
     public static void main(String[] args) {
 
         //  TODO-05: Instantiate the ApplicationContext using AnnotationConfigApplicationContext.
-        ApplicationContext spring =  
-            new AnnotationConfigApplicationContext(Config.class);
+        AnnotationConfigApplicationContext spring =  
+            StartupProfiler.attachIfEnabled(new AnnotationConfigApplicationContext());
+        spring.register(Config.class);
+        spring.refresh();
 
         //  TODO-06: Get the Register bean from the ApplicationContext.
         //  Lookup the bean by its name or type - your choice.
@@ -0,0 +1,107 @@
+package com.example.service;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.example.Config;
+
+//  Register.computeTotal() on the same calculator reached three ways: a Register 
+//  built with 'new', the Register bean from the application context, and that bean 
+//  behind a CGLIB AOP proxy with a single pass-through advice.  The difference 
+//  between the first two should be noise; the third is what an aspect costs.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegisterBenchmark {
+
+    private static final int AMOUNTS = 1024;
+
+    @Param({ "sales", "compound" })
+    public String calculator;
+
+    private double[] amounts;
+    private AnnotationConfigApplicationContext spring;
+    private Register direct;
+    private Register bean;
+    private Register proxied;
+
+    @Setup
+    public void setup() {
+        amounts = new Random(42).doubles(AMOUNTS, 0, 1_000).toArray();
+
+        direct = new Register("compound".equals(calculator)
+            ? new CompoundSalesTaxCalculator(0.06, 0.025)
+            : new SalesTaxCalculator(0.06));
+
+        spring = new AnnotationConfigApplicationContext();
+        if ("compound".equals(calculator)) {
+            spring.getEnvironment().setActiveProfiles("compound");
+        }
+        spring.register(Config.class);
+        spring.refresh();
+        bean = spring.getBean(Register.class);
+
+        ProxyFactory factory = new ProxyFactory(bean);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new PassThroughInterceptor());
+        proxied = (Register) factory.getProxy();
+    }
+
+    @TearDown
+    public void tearDown() {
+        spring.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public double direct() {
+        return sum(direct);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public double springBean() {
+        return sum(bean);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public double aopProxy() {
+        return sum(proxied);
+    }
+
+    private double sum(Register register) {
+        double total = 0;
+        for (double amount : amounts) {
+            total += register.computeTotal(amount);
+        }
+        return total;
+    }
+
+    static final class PassThroughInterceptor implements MethodInterceptor {
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            return invocation.proceed();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+//  Throughput of recording sales into shared shift totals from every available core.
+//  stripes=1 is the single synchronized accumulator; raise the thread count with 
+//  '-t N' (or the jmh { threads } setting) to see how each variant scales.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class ShiftTotalsBenchmark {
+
+    @Param({ "1", "64" })
+    int stripes;
+
+    private ShiftTotals totals;
+
+    @Setup
+    public void setup() {
+        totals = new ShiftTotals(stripes);
+    }
+
+    @Benchmark
+    public void record() {
+        totals.record(1_999, 120);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.service;
+
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleBinaryOperator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//  Register.computeTotal() through the fused pipeline against the same five stages 
+//  built as a chain of decorators.  In the chain, the stage call site sees every 
+//  stage type and goes megamorphic; the fused calculator is a single final class.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaxPipelineBenchmark {
+
+    private static final int AMOUNTS = 4096;
+
+    private double[] amounts;
+    private Register fused;
+    private Register decorated;
+
+    @Setup
+    public void setup() {
+        amounts = new Random(42).doubles(AMOUNTS, 0, 20_000).toArray();
+
+        fused = new Register(TaxPipeline.builder()
+            .baseRate(0.06)
+            .localRate(0.025)
+            .exemption(10)
+            .cap(1_000)
+            .rounding(2, RoundingMode.HALF_EVEN)
+            .build());
+
+        TaxCalculator chain = amount -> 0;
+        chain = new StageDecorator(chain, (amount, tax) -> tax + amount * 0.06);
+        chain = new StageDecorator(chain, (amount, tax) -> tax + amount * 0.025);
+        chain = new ExemptionDecorator(chain, 10);
+        chain = new StageDecorator(chain, (amount, tax) -> Math.min(tax, 1_000));
+        chain = new StageDecorator(chain, (amount, tax) -> Math.rint(tax * 100) / 100);
+        decorated = new Register(chain);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public double fusedPipeline() {
+        return sum(fused);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public double decoratorChain() {
+        return sum(decorated);
+    }
+
+    private double sum(Register register) {
+        double total = 0;
+        for (double amount : amounts) {
+            total += register.computeTotal(amount);
+        }
+        return total;
+    }
+
+    //  Applies one stage to the tax computed by the inner calculator.
+    static final class StageDecorator implements TaxCalculator {
+        private final TaxCalculator inner;
+        private final DoubleBinaryOperator stage;
+
+        StageDecorator(TaxCalculator inner, DoubleBinaryOperator stage) {
+            this.inner = inner;
+            this.stage = stage;
+        }
+
+        public double calculateTax(double amount) {
+            return stage.applyAsDouble(amount, inner.calculateTax(amount));
+        }
+    }
+
+    static final class ExemptionDecorator implements TaxCalculator {
+        private final TaxCalculator inner;
+        private final double exemption;
+
+        ExemptionDecorator(TaxCalculator inner, double exemption) {
+            this.inner = inner;
+            this.exemption = exemption;
+        }
+
+        public double calculateTax(double amount) {
+            return inner.calculateTax(Math.max(0, amount - exemption));
+        }
+    }
+}
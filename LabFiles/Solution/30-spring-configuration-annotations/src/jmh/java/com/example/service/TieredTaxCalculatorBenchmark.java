@@ -0,0 +1,77 @@
+package com.example.service;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+//  Cost per calculateTax() call of the tiered schedule against the flat-rate calculator.
+//  Amounts are spread over all brackets so the bracket lookup cannot be predicted.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TieredTaxCalculatorBenchmark {
+
+    private static final int AMOUNTS = 4096;
+
+    private double[] amounts;
+    private TaxCalculator flat;
+    private TaxCalculator tiered;
+    private TaxCalculator manyTiers;
+
+    @Setup
+    public void setup() {
+        amounts = new Random(42).doubles(AMOUNTS, 0, 20_000).toArray();
+        flat = new SalesTaxCalculator(0.06);
+        tiered = new TieredTaxCalculator(
+            new double[] { 0, 1_000, 10_000 },
+            new double[] { 0.06, 0.08, 0.1 });
+
+        double[] thresholds = new double[32];
+        double[] rates = new double[32];
+        for (int i = 0; i < thresholds.length; i++) {
+            thresholds[i] = i * 625;
+            rates[i] = 0.05 + i * 0.001;
+        }
+        manyTiers = new TieredTaxCalculator(thresholds, rates);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public double flatRate() {
+        return sum(flat);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public double threeTiers() {
+        return sum(tiered);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public double thirtyTwoTiers() {
+        return sum(manyTiers);
+    }
+
+    private double sum(TaxCalculator calculator) {
+        double total = 0;
+        for (double amount : amounts) {
+            total += calculator.calculateTax(amount);
+        }
+        return total;
+    }
+}
@@ -7,14 +7,26 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 import com.example.service.Register;
+import com.example.support.StartupProfiler;
 
 public class App {
 
     public static void main(String[] args) {
-        ApplicationContext spring =  
-            new AnnotationConfigApplicationContext(Config.class);
+        //  -Dapp.bootstrap=functional skips scanning and annotation processing.
+        //  -Dstartup.profile=<dir> writes a startup timing table and a JFR recording there.
+        ApplicationContext spring = "functional".equals(System.getProperty("app.bootstrap"))
+            ? FunctionalConfig.createContext()
+            : createContext();
         Register register = spring.getBean(Register.class);
         double total = register.computeTotal(100.00);
         System.out.println("Total: " + total);
     }
+
+    static AnnotationConfigApplicationContext createContext() {
+        AnnotationConfigApplicationContext spring = 
+            StartupProfiler.attachIfEnabled(new AnnotationConfigApplicationContext());
+        spring.register(Config.class);
+        spring.refresh();
+        return spring;
+    }
 }
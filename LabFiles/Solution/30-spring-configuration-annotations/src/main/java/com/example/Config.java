@@ -1,9 +1,19 @@
 package com.example;
 
+import java.math.RoundingMode;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
 import org.springframework.context.annotation.PropertySource;
 
+import com.example.service.TaxCalculator;
+import com.example.service.TaxPipeline;
+import com.example.support.ComponentIndexReport;
+
 
 @Configuration   
 @PropertySource("classpath:app.properties")
@@ -27,4 +37,33 @@ public class Config {
     //  Set the basePackages attribute to reference the service package.
     //  Organize your imports, save your work.
 
+    //  Base rate, local rate, exemption, cap and rounding fused into one calculator.
+    //  The @Primary calculators' profiles exclude each other, so with several of them 
+    //  active exactly one is primary: pipeline, then tiered, category and reloadable.  
+    //  FunctionalConfig.taxCalculator() picks in the same order.
+    @Bean
+    @Profile("pipeline")
+    @Primary
+    public TaxCalculator pipelineTaxCalculator(
+            @Value("${tax.rate}") double taxRate,
+            @Value("${local.tax.rate}") double localTaxRate,
+            @Value("${pipeline.tax.exemption:0}") double exemption,
+            @Value("${pipeline.tax.cap:Infinity}") double cap,
+            @Value("${pipeline.tax.rounding:HALF_EVEN}") RoundingMode rounding) {
+        return TaxPipeline.builder()
+            .baseRate(taxRate)
+            .localRate(localTaxRate)
+            .exemption(exemption)
+            .cap(cap)
+            .rounding(2, rounding)
+            .build();
+    }
+
+    //  Opt-in report of whether @ComponentScan used the compile-time index, with the
+    //  "component-index" profile.  Static, so it does not force early creation of Config itself.
+    @Bean
+    @Profile("component-index")
+    public static ComponentIndexReport componentIndexReport() {
+        return new ComponentIndexReport("com.example.service");
+    }
 }
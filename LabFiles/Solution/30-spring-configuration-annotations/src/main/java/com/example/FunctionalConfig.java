@@ -0,0 +1,102 @@
+package com.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.RoundingMode;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.io.support.ResourcePropertySource;
+
+import com.example.service.CategoryTaxCalculator;
+import com.example.service.CompoundSalesTaxCalculator;
+import com.example.service.JurisdictionTaxCalculator;
+import com.example.service.Register;
+import com.example.service.ReloadableSalesTaxCalculator;
+import com.example.service.ReloadableTaxRateSource;
+import com.example.service.SalesTaxCalculator;
+import com.example.service.ShiftTotals;
+import com.example.service.TaxCalculator;
+import com.example.service.TaxPipeline;
+import com.example.service.TieredTaxCalculator;
+import com.example.support.StartupProfiler;
+
+//  Registers the same beans as Config, but through supplier callbacks instead of 
+//  annotations.  There is no classpath scanning, no annotation parsing and no CGLIB 
+//  subclass of a @Configuration class, which is most of the cold-start cost of a 
+//  short-lived CLI.  Profiles are honored the same way Config honors them.
+public class FunctionalConfig implements ApplicationContextInitializer<GenericApplicationContext> {
+
+    public static GenericApplicationContext createContext(String... profiles) {
+        GenericApplicationContext spring = StartupProfiler.attachIfEnabled(new GenericApplicationContext());
+        spring.getEnvironment().setActiveProfiles(profiles);
+        new FunctionalConfig().initialize(spring);
+        spring.refresh();
+        return spring;
+    }
+
+    @Override
+    public void initialize(GenericApplicationContext spring) {
+        ConfigurableEnvironment env = spring.getEnvironment();
+        try {
+            env.getPropertySources().addLast(new ResourcePropertySource("classpath:app.properties"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        spring.registerBean("taxCalculator", TaxCalculator.class, () -> taxCalculator(spring));
+
+        if (env.acceptsProfiles(Profiles.of("jurisdiction"))) {
+            spring.registerBean(JurisdictionTaxCalculator.class, () -> new JurisdictionTaxCalculator(
+                spring.getResource(env.getProperty("jurisdiction.rates.file", "classpath:jurisdiction-rates.csv"))));
+        }
+        if (env.acceptsProfiles(Profiles.of("accumulating"))) {
+            spring.registerBean(ShiftTotals.class, () -> new ShiftTotals());
+        }
+        if (env.acceptsProfiles(Profiles.of("reloadable"))) {
+            spring.registerBean(ReloadableTaxRateSource.class, () -> new ReloadableTaxRateSource(
+                spring.getResource(env.getRequiredProperty("tax.rates.file"))));
+        }
+
+        spring.registerBean(Register.class, () -> {
+            Register register = new Register(spring.getBean(TaxCalculator.class));
+            spring.getBeanProvider(JurisdictionTaxCalculator.class).ifAvailable(register::setJurisdictionTaxCalculator);
+            spring.getBeanProvider(ShiftTotals.class).ifAvailable(register::setShiftTotals);
+            return register;
+        });
+    }
+
+    //  Picks the calculator the @Profile/@Primary annotations would have picked.
+    private static TaxCalculator taxCalculator(GenericApplicationContext spring) {
+        ConfigurableEnvironment env = spring.getEnvironment();
+        double taxRate = env.getRequiredProperty("tax.rate", Double.class);
+
+        if (env.acceptsProfiles(Profiles.of("pipeline"))) {
+            return TaxPipeline.builder()
+                .baseRate(taxRate)
+                .localRate(env.getRequiredProperty("local.tax.rate", Double.class))
+                .exemption(env.getProperty("pipeline.tax.exemption", Double.class, 0.0))
+                .cap(env.getProperty("pipeline.tax.cap", Double.class, Double.POSITIVE_INFINITY))
+                .rounding(2, env.getProperty("pipeline.tax.rounding", RoundingMode.class, RoundingMode.HALF_EVEN))
+                .build();
+        }
+        if (env.acceptsProfiles(Profiles.of("tiered"))) {
+            return new TieredTaxCalculator(
+                env.getRequiredProperty("tiered.tax.thresholds", String[].class),
+                env.getRequiredProperty("tiered.tax.rates", String[].class),
+                env.getProperty("tiered.tax.cap", Double.class, Double.POSITIVE_INFINITY));
+        }
+        if (env.acceptsProfiles(Profiles.of("category"))) {
+            return new CategoryTaxCalculator(env, taxRate);
+        }
+        if (env.acceptsProfiles(Profiles.of("reloadable"))) {
+            return new ReloadableSalesTaxCalculator(spring.getBean(ReloadableTaxRateSource.class));
+        }
+        if (env.acceptsProfiles(Profiles.of("compound"))) {
+            return new CompoundSalesTaxCalculator(taxRate, env.getRequiredProperty("local.tax.rate", Double.class));
+        }
+        return new SalesTaxCalculator(taxRate);
+    }
+}
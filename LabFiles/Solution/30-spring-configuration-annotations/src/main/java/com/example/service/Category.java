@@ -0,0 +1,9 @@
+package com.example.service;
+
+//	Product categories that can carry their own sales tax rate.
+public enum Category {
+	FOOD,
+	CLOTHING,
+	DIGITAL,
+	GENERAL
+}
@@ -0,0 +1,37 @@
+package com.example.service;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+//	Applies a different rate per product Category.  Rates come from 
+//	category.tax.rate.<category> properties (falling back to tax.rate) and are
+//	resolved once, into an array indexed by Category.ordinal().
+@Component
+@Profile("category & !pipeline & !tiered")
+@Primary
+public class CategoryTaxCalculator implements TaxCalculator {
+
+	private final double[] rates = new double[Category.values().length];
+
+	public CategoryTaxCalculator(Environment env, @Value("${tax.rate}") double defaultRate) {
+		for (Category category : Category.values()) {
+			String key = "category.tax.rate." + category.name().toLowerCase(Locale.ROOT);
+			rates[category.ordinal()] = env.getProperty(key, Double.class, defaultRate);
+		}
+	}
+
+	public double calculateTax(double amount) {
+		return calculateTax(amount, Category.GENERAL);
+	}
+
+	@Override
+	public double calculateTax(double amount, Category category) {
+		return amount * rates[category.ordinal()];
+	}
+
+}
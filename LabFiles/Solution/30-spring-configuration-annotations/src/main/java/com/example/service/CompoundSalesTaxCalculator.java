@@ -1,5 +1,8 @@
 package com.example.service;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -16,6 +19,7 @@ public class CompoundSalesTaxCalculator implements TaxCalculator {
 
 	private final double taxRate;	// default rate
 	private final double localTaxRate;	// default rate
+	private final FixedPointRate fixedPointRate;
 
 	//  TODO-09:  (OPTIONAL) Add @Value annotations to populate the constructor parameters.  
 	//	The parameter keys can be found in the app.properties file.
@@ -24,12 +28,27 @@ public class CompoundSalesTaxCalculator implements TaxCalculator {
 		@Value("${local.tax.rate}") double localTaxRate) {
 		this.taxRate = taxRate;
 		this.localTaxRate = localTaxRate;
+		this.fixedPointRate = new FixedPointRate(
+			BigDecimal.valueOf(taxRate).add(BigDecimal.valueOf(localTaxRate)));
 	}
 
 	public double calculateTax(double amount) {
 		return amount * (taxRate + localTaxRate);
 	}	
 
+	@Override
+	public void calculateTaxes(double[] amounts, double[] taxes, int offset, int length) {
+		final double rate = taxRate + localTaxRate;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			taxes[i] = amounts[i] * rate;
+		}
+	}
+
+	@Override
+	public long calculateTaxCents(long amountCents, RoundingMode roundingMode) {
+		return fixedPointRate.applyTo(amountCents, roundingMode);
+	}
+
 	//  TODO-10: (OPTIONAL) Organize imports, save your work.
 	//	Run the previous test, it should FAIL.  
 	//	Find the root cause of the exception and try to understand why.
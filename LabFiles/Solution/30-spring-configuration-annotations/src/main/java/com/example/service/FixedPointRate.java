@@ -0,0 +1,85 @@
+package com.example.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+//	A tax rate held as an exact decimal fraction (unscaled / 10^scale), so that 
+//	amounts in minor units (cents) can be taxed with long arithmetic only.
+//	The BigDecimal work happens once, in the constructor; applyTo() does not allocate.
+public final class FixedPointRate {
+
+	private static final int MAX_SCALE = 18;
+
+	private final long unscaledRate;
+	private final long divisor;
+
+	public FixedPointRate(double rate) {
+		this(BigDecimal.valueOf(rate));
+	}
+
+	public FixedPointRate(BigDecimal rate) {
+		BigDecimal exact = rate.stripTrailingZeros();
+		if (exact.scale() < 0) {
+			exact = exact.setScale(0);
+		}
+		if (exact.scale() > MAX_SCALE) {
+			throw new IllegalArgumentException("Tax rate " + rate + " has more than " + MAX_SCALE + " decimal places");
+		}
+		this.unscaledRate = exact.unscaledValue().longValueExact();
+		this.divisor = BigDecimal.ONE.scaleByPowerOfTen(exact.scale()).longValueExact();
+	}
+
+	//	Returns amountCents * rate rounded to a whole number of cents.
+	//	Throws ArithmeticException if the intermediate product overflows a long.
+	public long applyTo(long amountCents, RoundingMode roundingMode) {
+		return divide(Math.multiplyExact(amountCents, unscaledRate), divisor, roundingMode);
+	}
+
+	//	The rate as unscaledRate() / divisor(), for callers that combine several rates.
+	long unscaledRate() {
+		return unscaledRate;
+	}
+
+	long divisor() {
+		return divisor;
+	}
+
+	//	amount * 100 * scale as a long (an amount in currency units to cents, times scale), 
+	//	rounded with roundingMode.  Infinities and values beyond a long saturate.
+	static long toScaledCents(double amount, long scale, RoundingMode roundingMode) {
+		if (Double.isInfinite(amount)) {
+			return amount > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+		}
+		BigDecimal scaled = BigDecimal.valueOf(amount).movePointRight(2)
+			.multiply(BigDecimal.valueOf(scale))
+			.setScale(0, roundingMode);
+		return scaled.max(BigDecimal.valueOf(Long.MIN_VALUE)).min(BigDecimal.valueOf(Long.MAX_VALUE)).longValue();
+	}
+
+	//	Integer division with BigDecimal rounding semantics; divisor must be positive.
+	//	HALF_EVEN is banker's rounding.
+	static long divide(long dividend, long divisor, RoundingMode roundingMode) {
+		long quotient = dividend / divisor;
+		long remainder = dividend % divisor;
+		if (remainder == 0) {
+			return quotient;
+		}
+		int signum = dividend < 0 ? -1 : 1;
+		long absRemainder = Math.abs(remainder);
+		int half = Long.compare(absRemainder, divisor - absRemainder);	//	>0 above half, 0 exactly half
+
+		boolean awayFromZero;
+		switch (roundingMode) {
+			case UP:		awayFromZero = true; break;
+			case DOWN:		awayFromZero = false; break;
+			case CEILING:	awayFromZero = signum > 0; break;
+			case FLOOR:		awayFromZero = signum < 0; break;
+			case HALF_UP:	awayFromZero = half >= 0; break;
+			case HALF_DOWN:	awayFromZero = half > 0; break;
+			case HALF_EVEN:	awayFromZero = half > 0 || (half == 0 && (quotient & 1) != 0); break;
+			default:		throw new ArithmeticException("Rounding necessary");
+		}
+		return awayFromZero ? quotient + signum : quotient;
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.example.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+//	Tax rates for many jurisdictions (e.g. postal codes), loaded once from a 
+//	"code,rate" file into two parallel primitive arrays sorted by code.
+//	Lookups are a binary search over the int keys and do not allocate.
+//	The load time shows up as this bean's instantiation step with -Dstartup.profile.
+@Component
+@Profile("jurisdiction")
+public class JurisdictionTaxCalculator {
+
+	private final int[] codes;
+	private final double[] rates;
+
+	public JurisdictionTaxCalculator(
+		@Value("${jurisdiction.rates.file:classpath:jurisdiction-rates.csv}") Resource ratesFile) {
+		int size = 0;
+		int[] codes = new int[1024];
+		double[] rates = new double[1024];
+
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(ratesFile.getInputStream(), StandardCharsets.UTF_8), 1 << 16)) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				line = line.strip();
+				if (line.isEmpty() || line.charAt(0) == '#') {
+					continue;
+				}
+				int comma = line.indexOf(',');
+				if (comma < 0) {
+					throw new IllegalStateException(
+						"Expected 'code,rate' at line " + lineNumber + " of " + ratesFile + ": " + line);
+				}
+				if (size == codes.length) {
+					codes = Arrays.copyOf(codes, size * 2);
+					rates = Arrays.copyOf(rates, size * 2);
+				}
+				codes[size] = Integer.parseInt(line, 0, comma, 10);
+				rates[size] = Double.parseDouble(line.substring(comma + 1).strip());
+				size++;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read jurisdiction tax rates from " + ratesFile, e);
+		}
+
+		this.codes = Arrays.copyOf(codes, size);
+		this.rates = Arrays.copyOf(rates, size);
+		sortByCode(this.codes, this.rates);
+	}
+
+	public double calculateTax(double amount, int jurisdiction) {
+		return amount * rateFor(jurisdiction);
+	}
+
+	public double rateFor(int jurisdiction) {
+		int index = Arrays.binarySearch(codes, jurisdiction);
+		if (index < 0) {
+			throw new IllegalArgumentException("Unknown tax jurisdiction: " + jurisdiction);
+		}
+		return rates[index];
+	}
+
+	public int size() {
+		return codes.length;
+	}
+
+	//	Rate files are usually already sorted; otherwise sort (code, original index)
+	//	pairs packed into longs, then permute the rates to match.
+	private static void sortByCode(int[] codes, double[] rates) {
+		boolean sorted = true;
+		for (int i = 1; i < codes.length && sorted; i++) {
+			sorted = codes[i - 1] < codes[i];
+		}
+		if (!sorted) {
+			long[] packed = new long[codes.length];
+			for (int i = 0; i < codes.length; i++) {
+				packed[i] = ((long) codes[i] << 32) | i;
+			}
+			Arrays.sort(packed);
+			double[] original = rates.clone();
+			for (int i = 0; i < packed.length; i++) {
+				codes[i] = (int) (packed[i] >> 32);
+				rates[i] = original[(int) packed[i]];
+			}
+		}
+		for (int i = 1; i < codes.length; i++) {
+			if (codes[i - 1] == codes[i]) {
+				throw new IllegalStateException("Duplicate tax jurisdiction: " + codes[i]);
+			}
+		}
+	}
+
+}
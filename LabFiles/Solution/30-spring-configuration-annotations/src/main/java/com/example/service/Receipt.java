@@ -0,0 +1,5 @@
+package com.example.service;
+
+//	Totals for a basket or batch of line items priced by Register.totalOf().
+public record Receipt(double subtotal, double tax, double total) {
+}
@@ -0,0 +1,96 @@
+package com.example.service;
+
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveTask;
+
+//	Fork/join task behind Register.totalOf().  Work is split only by the spliterator's
+//	own trySplit() and a fixed leaf size, never by the number of threads, and partial 
+//	sums are always combined left then right.  Together with compensated (Neumaier) 
+//	summation this gives the same result, bit for bit, on any pool size.
+class ReceiptTotaler extends RecursiveTask<ReceiptTotaler.Sums> {
+
+	static final long LEAF_SIZE = 8_192;
+
+	private final Spliterator.OfDouble amounts;
+	private final TaxCalculator taxCalc;
+
+	ReceiptTotaler(Spliterator.OfDouble amounts, TaxCalculator taxCalc) {
+		this.amounts = amounts;
+		this.taxCalc = taxCalc;
+	}
+
+	@Override
+	protected Sums compute() {
+		if (amounts.estimateSize() > LEAF_SIZE) {
+			Spliterator.OfDouble prefix = amounts.trySplit();
+			if (prefix != null) {
+				ReceiptTotaler left = new ReceiptTotaler(prefix, taxCalc);
+				ReceiptTotaler right = new ReceiptTotaler(amounts, taxCalc);
+				left.fork();
+				Sums rightSums = right.compute();
+				return left.join().add(rightSums);
+			}
+		}
+		Sums sums = new Sums();
+		amounts.forEachRemaining((double amount) -> {
+			double tax = taxCalc.calculateTax(amount);
+			sums.subtotal.add(amount);
+			sums.tax.add(tax);
+			sums.netCents += Math.round(amount * 100);
+			sums.taxCents += Math.round(tax * 100);
+			sums.count++;
+		});
+		return sums;
+	}
+
+	//	The cents fields round each line item the way Register.computeTotal() does, 
+	//	so ShiftTotals sees the same amounts whichever path priced the items.
+	static final class Sums {
+		final CompensatedSum subtotal = new CompensatedSum();
+		final CompensatedSum tax = new CompensatedSum();
+		long netCents;
+		long taxCents;
+		long count;
+
+		Sums add(Sums other) {
+			subtotal.add(other.subtotal);
+			tax.add(other.tax);
+			netCents += other.netCents;
+			taxCents += other.taxCents;
+			count += other.count;
+			return this;
+		}
+
+		Receipt toReceipt() {
+			double subtotalValue = subtotal.value();
+			double taxValue = tax.value();
+			return new Receipt(subtotalValue, taxValue, subtotalValue + taxValue);
+		}
+	}
+
+	//	Neumaier's variant of Kahan summation; also correct when an addend is larger than the running sum.
+	static final class CompensatedSum {
+		private double sum;
+		private double compensation;
+
+		void add(double value) {
+			double t = sum + value;
+			if (Math.abs(sum) >= Math.abs(value)) {
+				compensation += (sum - t) + value;
+			} else {
+				compensation += (value - t) + sum;
+			}
+			sum = t;
+		}
+
+		void add(CompensatedSum other) {
+			add(other.sum);
+			add(other.compensation);
+		}
+
+		double value() {
+			return sum + compensation;
+		}
+	}
+
+}
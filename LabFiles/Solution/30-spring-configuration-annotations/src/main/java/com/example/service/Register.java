@@ -1,5 +1,12 @@
 package com.example.service;
 
+import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 //  TODO-04:  Add an annotation to this class to define it as a Spring bean.
@@ -9,14 +16,117 @@ import org.springframework.stereotype.Component;
 public class Register {
 
     private TaxCalculator taxCalc;
+    private JurisdictionTaxCalculator jurisdictionTaxCalc;
+    private ShiftTotals shiftTotals;
 
     public Register (TaxCalculator taxCalculator) {
         taxCalc = taxCalculator;
     }
 
+    //  Only present when the "jurisdiction" profile is active.
+    @Autowired(required = false)
+    public void setJurisdictionTaxCalculator(JurisdictionTaxCalculator jurisdictionTaxCalculator) {
+        jurisdictionTaxCalc = jurisdictionTaxCalculator;
+    }
+
+    //  Only present when the "accumulating" profile is active.
+    @Autowired(required = false)
+    public void setShiftTotals(ShiftTotals shiftTotals) {
+        this.shiftTotals = shiftTotals;
+    }
+
 	public double computeTotal(double beforeTax) {
-		return beforeTax + taxCalc.calculateTax(beforeTax);
+		return total(beforeTax, taxCalc.calculateTax(beforeTax));
   }
 
+	public double computeTotal(double beforeTax, Category category) {
+		return total(beforeTax, taxCalc.calculateTax(beforeTax, category));
+	}
+
+	public double computeTotal(double beforeTax, int jurisdiction) {
+		if (jurisdictionTaxCalc == null) {
+			throw new IllegalStateException("No JurisdictionTaxCalculator configured; activate the \"jurisdiction\" profile");
+		}
+		return total(beforeTax, jurisdictionTaxCalc.calculateTax(beforeTax, jurisdiction));
+	}
+
+	private double total(double beforeTax, double tax) {
+		if (shiftTotals != null) {
+			shiftTotals.record(Math.round(beforeTax * 100), Math.round(tax * 100));
+		}
+		return beforeTax + tax;
+	}
+
+	//	Fixed-point variant of computeTotal(); amounts are in minor units (cents).
+	public long computeTotalCents(long beforeTaxCents, RoundingMode roundingMode) {
+		long taxCents = taxCalc.calculateTaxCents(beforeTaxCents, roundingMode);
+		if (shiftTotals != null) {
+			shiftTotals.record(beforeTaxCents, taxCents);
+		}
+		return Math.addExact(beforeTaxCents, taxCents);
+	}
+
+	//	Totals a large basket or batch file of before-tax amounts on the common fork/join pool.
+	public Receipt totalOf(DoubleStream beforeTax) {
+		return totalOf(beforeTax, ForkJoinPool.commonPool());
+	}
+
+	public Receipt totalOf(DoubleStream beforeTax, ForkJoinPool pool) {
+		try (beforeTax) {
+			return totalOf(beforeTax.spliterator(), pool);
+		}
+	}
+
+	public Receipt totalOf(Spliterator.OfDouble beforeTax) {
+		return totalOf(beforeTax, ForkJoinPool.commonPool());
+	}
+
+	//	The result does not depend on the pool's parallelism; see ReceiptTotaler.
+	public Receipt totalOf(Spliterator.OfDouble beforeTax, ForkJoinPool pool) {
+		ReceiptTotaler.Sums sums = pool.invoke(new ReceiptTotaler(beforeTax, taxCalc));
+		if (shiftTotals != null) {
+			shiftTotals.record(sums.netCents, sums.taxCents, sums.count);
+		}
+		return sums.toReceipt();
+	}
+
+	public void computeTotals(double[] beforeTax, double[] totals) {
+		computeTotals(beforeTax, totals, 0, beforeTax.length);
+	}
+
+	//	Prices beforeTax[offset..offset+length) into the same positions of totals.
+	//	Each total is computed as beforeTax + tax, so results are bit-identical to computeTotal().
+	//	Shift totals get the whole batch in one record() call.
+	public void computeTotals(double[] beforeTax, double[] totals, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, beforeTax.length);
+		Objects.checkFromIndexSize(offset, length, totals.length);
+		long netCents = 0, taxCents = 0;
+		if (beforeTax == totals) {
+			//	In-place pricing; the batch tax pass would overwrite the amounts.
+			for (int i = offset, end = offset + length; i < end; i++) {
+				double tax = taxCalc.calculateTax(beforeTax[i]);
+				netCents += Math.round(beforeTax[i] * 100);
+				taxCents += Math.round(tax * 100);
+				totals[i] = beforeTax[i] + tax;
+			}
+		} else {
+			taxCalc.calculateTaxes(beforeTax, totals, offset, length);
+			if (shiftTotals == null) {
+				for (int i = offset, end = offset + length; i < end; i++) {
+					totals[i] = beforeTax[i] + totals[i];
+				}
+				return;
+			}
+			for (int i = offset, end = offset + length; i < end; i++) {
+				netCents += Math.round(beforeTax[i] * 100);
+				taxCents += Math.round(totals[i] * 100);
+				totals[i] = beforeTax[i] + totals[i];
+			}
+		}
+		if (shiftTotals != null) {
+			shiftTotals.record(netCents, taxCents, length);
+		}
+	}
+
 
 }
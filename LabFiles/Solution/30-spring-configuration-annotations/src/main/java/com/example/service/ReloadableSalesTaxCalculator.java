@@ -0,0 +1,48 @@
+package com.example.service;
+
+import java.math.RoundingMode;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+//	Sales tax calculator whose rates can change at runtime without restarting the context.
+//	Each call reads the current snapshot once (a single volatile read), so it is lock-free
+//	and never mixes rates from two different snapshots.
+@Component
+@Profile("reloadable & !pipeline & !tiered & !category")
+@Primary
+public class ReloadableSalesTaxCalculator implements TaxCalculator {
+
+	private final ReloadableTaxRateSource rateSource;
+
+	public ReloadableSalesTaxCalculator(ReloadableTaxRateSource rateSource) {
+		this.rateSource = rateSource;
+	}
+
+	public double calculateTax(double amount) {
+		TaxRateSnapshot rates = rateSource.current();
+		double tax = amount * rates.combinedRate();
+		rateSource.recordIfStale(rates);
+		return tax;
+	}
+
+	@Override
+	public void calculateTaxes(double[] amounts, double[] taxes, int offset, int length) {
+		TaxRateSnapshot rates = rateSource.current();
+		final double rate = rates.combinedRate();
+		for (int i = offset, end = offset + length; i < end; i++) {
+			taxes[i] = amounts[i] * rate;
+		}
+		rateSource.recordIfStale(rates);
+	}
+
+	@Override
+	public long calculateTaxCents(long amountCents, RoundingMode roundingMode) {
+		TaxRateSnapshot rates = rateSource.current();
+		long taxCents = rates.fixedPointRate().applyTo(amountCents, roundingMode);
+		rateSource.recordIfStale(rates);
+		return taxCents;
+	}
+
+}
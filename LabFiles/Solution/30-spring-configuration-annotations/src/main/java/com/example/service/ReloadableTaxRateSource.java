@@ -0,0 +1,168 @@
+package com.example.service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Properties;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+//	Holds the current TaxRateSnapshot behind a single volatile reference and replaces it 
+//	whenever the rates file changes on disk.  Readers never lock; a reload simply 
+//	publishes a new immutable snapshot.
+//	The rates file uses the same keys as app.properties: tax.rate and (optionally) local.tax.rate.
+//	tax.rates.file names it as a Spring resource location, e.g. file:/etc/pos/tax-rates.properties; 
+//	app.properties points at the sample classpath:tax-rates.properties.  Only a location 
+//	that resolves to a file on disk is watched; one inside a jar is read once.
+@Component
+@Profile("reloadable")
+public class ReloadableTaxRateSource implements InitializingBean, DisposableBean {
+
+	private final Resource rates;
+	private final Path ratesFile;	//	null if the rates are not a file on disk
+	private volatile TaxRateSnapshot current;
+
+	//	Metrics:
+	private final LongAdder staleCalculations = new LongAdder();
+	private volatile long reloadCount;
+	private volatile long lastReloadLatencyNanos;
+
+	private WatchService watchService;
+	private Thread watcher;
+
+	public ReloadableTaxRateSource(@Value("${tax.rates.file}") Resource rates) {
+		this.rates = rates;
+		this.ratesFile = fileOf(rates);
+		if (!rates.exists()) {
+			throw new IllegalStateException("No tax rates at " + (ratesFile != null ? ratesFile : rates.getDescription())
+				+ "; set tax.rates.file to a file: or classpath: location");
+		}
+		this.current = read(0);
+	}
+
+	private static Path fileOf(Resource rates) {
+		if (!rates.isFile()) {
+			return null;
+		}
+		try {
+			return rates.getFile().toPath().toAbsolutePath();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not resolve tax rates file " + rates.getDescription(), e);
+		}
+	}
+
+	public TaxRateSnapshot current() {
+		return current;
+	}
+
+	//	Called after a calculation priced on the given snapshot; counts the calculations
+	//	that were still in flight when a newer snapshot was published.
+	public void recordIfStale(TaxRateSnapshot usedSnapshot) {
+		if (usedSnapshot != current) {
+			staleCalculations.increment();
+		}
+	}
+
+	public void reload() {
+		reload(System.nanoTime());
+	}
+
+	//	noticedNanos is when the change was noticed, i.e. when the watcher received the event.
+	private synchronized void reload(long noticedNanos) {
+		current = read(current.version() + 1);
+		lastReloadLatencyNanos = System.nanoTime() - noticedNanos;
+		reloadCount++;
+	}
+
+	public long getReloadCount() {
+		return reloadCount;
+	}
+
+	//	Time from the watcher receiving the change event to publishing the new snapshot.
+	//	For reload() called directly, the time from the call to publishing.
+	public long getLastReloadLatencyNanos() {
+		return lastReloadLatencyNanos;
+	}
+
+	public long getStaleCalculationCount() {
+		return staleCalculations.sum();
+	}
+
+	@Override
+	public void afterPropertiesSet() throws IOException {
+		if (ratesFile == null) {
+			return;
+		}
+		watchService = ratesFile.getFileSystem().newWatchService();
+		ratesFile.getParent().register(watchService,
+			StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		watcher = new Thread(this::watch, "tax-rate-watcher");
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+
+	@Override
+	public void destroy() throws IOException {
+		if (watchService != null) {
+			watchService.close();
+		}
+	}
+
+	private void watch() {
+		try {
+			while (true) {
+				WatchKey key = watchService.take();
+				long noticed = System.nanoTime();
+				boolean changed = false;
+				for (WatchEvent<?> event : key.pollEvents()) {
+					changed |= ratesFile.getFileName().equals(event.context());
+				}
+				if (changed) {
+					try {
+						reload(noticed);
+					} catch (RuntimeException e) {
+						//	Keep pricing with the previous snapshot until the file is fixed.
+						System.out.println("Tax rates not reloaded from " + ratesFile + ": " + e.getMessage());
+					}
+				}
+				if (!key.reset()) {
+					return;
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			//	Context is shutting down.
+		}
+	}
+
+	private TaxRateSnapshot read(long version) {
+		Properties props = new Properties();
+		try (Reader reader = new InputStreamReader(rates.getInputStream(), StandardCharsets.UTF_8)) {
+			props.load(reader);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read tax rates from " + rates.getDescription(), e);
+		}
+		String taxRate = props.getProperty("tax.rate");
+		if (taxRate == null) {
+			throw new IllegalStateException("No tax.rate in " + rates.getDescription());
+		}
+		return new TaxRateSnapshot(
+			Double.parseDouble(taxRate.strip()),
+			Double.parseDouble(props.getProperty("local.tax.rate", "0").strip()),
+			version);
+	}
+
+}
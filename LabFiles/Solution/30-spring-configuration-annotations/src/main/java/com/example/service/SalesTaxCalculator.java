@@ -1,5 +1,7 @@
 package com.example.service;
 
+import java.math.RoundingMode;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Component;
 public class SalesTaxCalculator implements TaxCalculator {
 
 	private double taxRate;	// default rate
+	private FixedPointRate fixedPointRate = new FixedPointRate(0.0);
 
 	//	TODO-06:  This class has multiple constructors.  
 	//	Do you remember which one Spring will use by default?
@@ -26,12 +29,26 @@ public class SalesTaxCalculator implements TaxCalculator {
 	@Autowired
     public SalesTaxCalculator(@Value("${tax.rate}") double taxRate) {
 		this.taxRate = taxRate;
+		this.fixedPointRate = new FixedPointRate(taxRate);
 	}
 
 	public double calculateTax(double amount) {
 		return amount * taxRate;
 	}	
 
+	@Override
+	public void calculateTaxes(double[] amounts, double[] taxes, int offset, int length) {
+		final double rate = taxRate;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			taxes[i] = amounts[i] * rate;
+		}
+	}
+
+	@Override
+	public long calculateTaxCents(long amountCents, RoundingMode roundingMode) {
+		return fixedPointRate.applyTo(amountCents, roundingMode);
+	}
+
 
 
 
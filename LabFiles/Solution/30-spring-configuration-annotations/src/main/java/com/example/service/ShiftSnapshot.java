@@ -0,0 +1,9 @@
+package com.example.service;
+
+//	Running shift totals at one instant, in minor units (cents).
+public record ShiftSnapshot(long netCents, long taxCents, long transactions) {
+
+	public long grossCents() {
+		return netCents + taxCents;
+	}
+}
@@ -0,0 +1,94 @@
+package com.example.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+//	Running totals for a shift, shared by every thread using the Register.
+//	Like LongAdder, updates are spread over striped cells so that threads rarely touch 
+//	the same memory.  Unlike LongAdder, a cell holds all three counters and is updated 
+//	under its own (almost always uncontended) monitor, so snapshot() can briefly hold 
+//	every cell and read a consistent net/tax/count triple.
+@Component
+@Profile("accumulating")
+public class ShiftTotals {
+
+	private static final AtomicInteger nextStripe = new AtomicInteger();
+	private static final ThreadLocal<Integer> threadStripe = 
+		ThreadLocal.withInitial(nextStripe::getAndIncrement);
+
+	private final Cell[] cells;
+	private final int mask;
+
+	public ShiftTotals() {
+		this(Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	public ShiftTotals(int stripes) {
+		int size = 1;
+		while (size < stripes) {
+			size <<= 1;
+		}
+		cells = new Cell[size];
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = new Cell();
+		}
+		mask = cells.length - 1;
+	}
+
+	public void record(long netCents, long taxCents) {
+		record(netCents, taxCents, 1);
+	}
+
+	//	Records a whole batch of transactions under one monitor acquisition.
+	public void record(long netCents, long taxCents, long transactions) {
+		Cell cell = cells[threadStripe.get() & mask];
+		synchronized (cell) {
+			cell.netCents += netCents;
+			cell.taxCents += taxCents;
+			cell.transactions += transactions;
+		}
+	}
+
+	public ShiftSnapshot snapshot() {
+		return lockAndRead(0, false);
+	}
+
+	//	Ends the shift: returns the totals and starts again from zero, atomically.
+	public ShiftSnapshot snapshotAndReset() {
+		return lockAndRead(0, true);
+	}
+
+	//	Acquires the cell monitors in index order, then reads (and optionally clears) them all.
+	private ShiftSnapshot lockAndRead(int index, boolean reset) {
+		if (index < cells.length) {
+			synchronized (cells[index]) {
+				return lockAndRead(index + 1, reset);
+			}
+		}
+		long net = 0, tax = 0, count = 0;
+		for (Cell cell : cells) {
+			net += cell.netCents;
+			tax += cell.taxCents;
+			count += cell.transactions;
+			if (reset) {
+				cell.netCents = 0;
+				cell.taxCents = 0;
+				cell.transactions = 0;
+			}
+		}
+		return new ShiftSnapshot(net, tax, count);
+	}
+
+	//	The trailing fields pad each cell past a cache line so neighbouring cells 
+	//	do not falsely share one.
+	@SuppressWarnings("unused")
+	private static final class Cell {
+		long netCents;
+		long taxCents;
+		long transactions;
+		long p1, p2, p3, p4, p5, p6, p7;
+	}
+
+}
@@ -1,6 +1,37 @@
 package com.example.service;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 public interface TaxCalculator {
 	double calculateTax(double amount);
 
+	//	Calculators with a single rate apply it to every category.
+	default double calculateTax(double amount, Category category) {
+		return calculateTax(amount);
+	}
+
+	//	Batch form of calculateTax(): writes the tax for amounts[offset..offset+length) 
+	//	into the same positions of taxes.  Implementations with a fixed rate override this 
+	//	with a plain counted loop so the JIT can unroll and vectorize it.
+	default void calculateTaxes(double[] amounts, double[] taxes, int offset, int length) {
+		for (int i = offset, end = offset + length; i < end; i++) {
+			taxes[i] = calculateTax(amounts[i]);
+		}
+	}
+
+	//	Tax on an amount in minor units (cents), rounded to whole cents.
+	//	This fallback converts to currency units, so thresholds, exemptions and caps in 
+	//	calculateTax() keep their meaning, and goes through the double path and allocates; 
+	//	fixed-rate calculators override it with exact long arithmetic.  The double result 
+	//	is first settled to a millionth of a cent, so that representation error such as 
+	//	600.0000000000001 does not decide the rounding.
+	default long calculateTaxCents(long amountCents, RoundingMode roundingMode) {
+		return BigDecimal.valueOf(calculateTax(amountCents / 100.0))
+			.movePointRight(2)
+			.setScale(6, RoundingMode.HALF_EVEN)
+			.setScale(0, roundingMode)
+			.longValueExact();
+	}
+
 }
@@ -0,0 +1,173 @@
+package com.example.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+//	Builds a TaxCalculator from composable stages: rates, exemptions, a cap and rounding.
+//	Rather than wrapping one calculator in another (which makes every call site megamorphic 
+//	once several decorators are in play), build() folds all stages into the final fields 
+//	of a single FusedTaxCalculator.  Stages always apply in this order, whatever order 
+//	they were added in:
+//
+//		taxable = max(0, amount - sum of exemptions)
+//		tax     = taxable * sum of rates
+//		tax     = min(tax, smallest cap)
+//		tax     = tax rounded to the requested decimal places
+//
+//	calculateTaxCents() runs the same stages on cents in exact long arithmetic, with the 
+//	exemption taken to the nearest cent; the caller's rounding mode then rounds to whole cents.
+public final class TaxPipeline {
+
+	private TaxPipeline() {
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public static final class Builder {
+
+		private double rate;
+		private BigDecimal exactRate = BigDecimal.ZERO;	//	the same sum without double rounding, for cents
+		private double exemption;
+		private double cap = Double.POSITIVE_INFINITY;
+		private double roundingFactor;	//	0 means no rounding
+		private int decimalPlaces;
+		private boolean halfEven;
+
+		private Builder() {
+		}
+
+		public Builder baseRate(double taxRate) {
+			rate += taxRate;
+			exactRate = exactRate.add(BigDecimal.valueOf(taxRate));
+			return this;
+		}
+
+		public Builder localRate(double localTaxRate) {
+			rate += localTaxRate;
+			exactRate = exactRate.add(BigDecimal.valueOf(localTaxRate));
+			return this;
+		}
+
+		//	The first 'exemptAmount' of every amount is not taxed.
+		public Builder exemption(double exemptAmount) {
+			if (exemptAmount < 0) {
+				throw new IllegalArgumentException("Exemption must not be negative: " + exemptAmount);
+			}
+			exemption += exemptAmount;
+			return this;
+		}
+
+		public Builder cap(double maxTax) {
+			cap = Math.min(cap, maxTax);
+			return this;
+		}
+
+		public Builder rounding(int decimalPlaces, RoundingMode mode) {
+			if (mode != RoundingMode.HALF_UP && mode != RoundingMode.HALF_EVEN) {
+				throw new IllegalArgumentException("Only HALF_UP and HALF_EVEN rounding are supported, not " + mode);
+			}
+			roundingFactor = Math.pow(10, decimalPlaces);
+			this.decimalPlaces = decimalPlaces;
+			halfEven = (mode == RoundingMode.HALF_EVEN);
+			return this;
+		}
+
+		public TaxCalculator build() {
+			return new FusedTaxCalculator(this);
+		}
+	}
+
+	static final class FusedTaxCalculator implements TaxCalculator {
+
+		private final double rate;
+		private final double exemption;
+		private final double floor;
+		private final double cap;
+		private final double roundingFactor;
+		private final boolean halfEven;
+
+		//	The same stages in cents.  Tax is counted in units of 1/rateDivisor cent; 
+		//	a rounding stage rounds to multiples of roundingStep of those units, which is 
+		//	centsPerStep cents, or 1/stepsPerCent of a cent below cent precision.
+		private final boolean exempt;
+		private final long exemptionCents;
+		private final long unscaledRate;
+		private final long rateDivisor;
+		private final long scaledCap;
+		private final long roundingStep;	//	0 means no rounding, or none finer than the rate carries
+		private final long centsPerStep;
+		private final long stepsPerCent;
+		private final RoundingMode stageRounding;
+
+		FusedTaxCalculator(Builder stages) {
+			//	Without an exemption the amount passes through untouched (amount - 0.0 == amount, 
+			//	and max(x, -Infinity) == x), so a rates-only pipeline matches the plain calculators bit for bit.
+			this.rate = stages.rate;
+			this.exemption = stages.exemption;
+			this.floor = stages.exemption > 0 ? 0.0 : Double.NEGATIVE_INFINITY;
+			this.cap = stages.cap;
+			this.roundingFactor = stages.roundingFactor;
+			this.halfEven = stages.halfEven;
+
+			FixedPointRate exactRate = new FixedPointRate(stages.exactRate);
+			this.exempt = stages.exemption > 0;
+			this.exemptionCents = FixedPointRate.toScaledCents(stages.exemption, 1, RoundingMode.HALF_EVEN);
+			this.unscaledRate = exactRate.unscaledRate();
+			this.rateDivisor = exactRate.divisor();
+			this.scaledCap = FixedPointRate.toScaledCents(stages.cap, rateDivisor, RoundingMode.FLOOR);
+			this.stageRounding = stages.halfEven ? RoundingMode.HALF_EVEN : RoundingMode.HALF_UP;
+			int places = stages.decimalPlaces;
+			if (stages.roundingFactor == 0) {
+				this.roundingStep = 0;
+				this.centsPerStep = 0;
+				this.stepsPerCent = 0;
+			} else if (places <= 2) {
+				this.centsPerStep = BigDecimal.ONE.scaleByPowerOfTen(2 - places).longValueExact();
+				this.roundingStep = Math.multiplyExact(centsPerStep, rateDivisor);
+				this.stepsPerCent = 0;
+			} else {
+				//	Rounding below a cent changes nothing unless the rate carries that many places.
+				long perCent = places - 2 <= 18 ? BigDecimal.ONE.scaleByPowerOfTen(places - 2).longValueExact() : 0;
+				boolean carried = perCent > 0 && rateDivisor % perCent == 0;
+				this.roundingStep = carried ? rateDivisor / perCent : 0;
+				this.centsPerStep = 0;
+				this.stepsPerCent = carried ? perCent : 0;
+			}
+		}
+
+		public double calculateTax(double amount) {
+			double taxable = Math.max(amount - exemption, floor);
+			double tax = Math.min(taxable * rate, cap);
+			if (roundingFactor == 0) {
+				return tax;
+			}
+			double scaled = tax * roundingFactor;
+			double rounded = halfEven ? Math.rint(scaled) : Math.signum(scaled) * Math.floor(Math.abs(scaled) + 0.5);
+			return rounded / roundingFactor;
+		}
+
+		//	Throws ArithmeticException if the scaled tax overflows a long.
+		@Override
+		public long calculateTaxCents(long amountCents, RoundingMode roundingMode) {
+			long taxable = exempt ? Math.max(amountCents - exemptionCents, 0) : amountCents;
+			long tax = Math.min(Math.multiplyExact(taxable, unscaledRate), scaledCap);
+			if (roundingStep == 0) {
+				return FixedPointRate.divide(tax, rateDivisor, roundingMode);
+			}
+			long steps = FixedPointRate.divide(tax, roundingStep, stageRounding);
+			return centsPerStep > 0
+				? Math.multiplyExact(steps, centsPerStep)
+				: FixedPointRate.divide(steps, stepsPerCent, roundingMode);
+		}
+
+		@Override
+		public void calculateTaxes(double[] amounts, double[] taxes, int offset, int length) {
+			for (int i = offset, end = offset + length; i < end; i++) {
+				taxes[i] = calculateTax(amounts[i]);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.example.service;
+
+import java.math.BigDecimal;
+
+//	One immutable set of tax rates, as read from the rates file by ReloadableTaxRateSource.
+//	The combined rate is also kept as a FixedPointRate for the cents path.
+public record TaxRateSnapshot(double taxRate, double localTaxRate, FixedPointRate fixedPointRate, long version) {
+
+	public TaxRateSnapshot(double taxRate, double localTaxRate, long version) {
+		this(taxRate, localTaxRate, 
+			new FixedPointRate(BigDecimal.valueOf(taxRate).add(BigDecimal.valueOf(localTaxRate))), version);
+	}
+
+	public double combinedRate() {
+		return taxRate + localTaxRate;
+	}
+}
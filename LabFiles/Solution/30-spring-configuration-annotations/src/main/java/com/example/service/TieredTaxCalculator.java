@@ -0,0 +1,139 @@
+package com.example.service;
+
+import java.math.RoundingMode;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+//	Marginal (bracketed) tax schedule: the part of the amount above thresholds[i] is taxed
+//	at rates[i], up to the next threshold.  An optional cap limits the total tax.
+//	The tax owed at each threshold is precomputed, so a call is one bracket lookup
+//	plus a multiply-add, with no allocation.  The cents path does the same in exact long 
+//	arithmetic, with thresholds taken to the nearest cent.
+@Component
+@Profile("tiered & !pipeline")
+@Primary
+public class TieredTaxCalculator implements TaxCalculator {
+
+	//	Schedules up to this size use a linear count instead of a binary search.
+	private static final int LINEAR_SEARCH_LIMIT = 8;
+
+	private final double[] thresholds;
+	private final double[] rates;
+	private final double[] baseTax;	//	tax owed on an amount of exactly thresholds[i]
+	private final double cap;
+
+	//	The same schedule in cents.  Rates are brought to one divisor, so tax is counted in 
+	//	units of 1/rateDivisor cent and rounded only once, at the end.
+	private final double[] thresholdCents;	//	whole numbers; doubles so bracketOf() serves both paths
+	private final long[] scaledRates;
+	private final long[] scaledBaseTax;
+	private final long scaledCap;
+	private final long rateDivisor;
+
+	//	Schedule from comma-separated properties, resolved once at startup.
+	@Autowired
+	public TieredTaxCalculator(
+		@Value("${tiered.tax.thresholds}") String[] thresholds,
+		@Value("${tiered.tax.rates}") String[] rates,
+		@Value("${tiered.tax.cap:Infinity}") double cap) {
+		this(parse(thresholds), parse(rates), cap);
+	}
+
+	public TieredTaxCalculator(double[] thresholds, double[] rates) {
+		this(thresholds, rates, Double.POSITIVE_INFINITY);
+	}
+
+	public TieredTaxCalculator(double[] thresholds, double[] rates, double cap) {
+		if (thresholds.length == 0 || thresholds.length != rates.length) {
+			throw new IllegalArgumentException(
+				"Tax schedule needs one rate per threshold; got " + thresholds.length + " thresholds and " + rates.length + " rates");
+		}
+		for (int i = 1; i < thresholds.length; i++) {
+			if (!(thresholds[i - 1] < thresholds[i])) {
+				throw new IllegalArgumentException("Tax thresholds must be strictly ascending");
+			}
+		}
+		this.thresholds = thresholds.clone();
+		this.rates = rates.clone();
+		this.baseTax = new double[thresholds.length];
+		for (int i = 1; i < thresholds.length; i++) {
+			baseTax[i] = baseTax[i - 1] + (thresholds[i] - thresholds[i - 1]) * rates[i - 1];
+		}
+		this.cap = cap;
+
+		FixedPointRate[] exactRates = new FixedPointRate[rates.length];
+		long divisor = 1;
+		for (int i = 0; i < rates.length; i++) {
+			exactRates[i] = new FixedPointRate(rates[i]);
+			divisor = Math.max(divisor, exactRates[i].divisor());	//	powers of ten, so the largest is a multiple of all
+		}
+		this.rateDivisor = divisor;
+		this.thresholdCents = new double[thresholds.length];
+		this.scaledRates = new long[rates.length];
+		this.scaledBaseTax = new long[thresholds.length];
+		for (int i = 0; i < thresholds.length; i++) {
+			thresholdCents[i] = FixedPointRate.toScaledCents(thresholds[i], 1, RoundingMode.HALF_EVEN);
+			scaledRates[i] = Math.multiplyExact(exactRates[i].unscaledRate(), divisor / exactRates[i].divisor());
+			if (i > 0) {
+				long width = (long) thresholdCents[i] - (long) thresholdCents[i - 1];
+				scaledBaseTax[i] = Math.addExact(scaledBaseTax[i - 1], Math.multiplyExact(width, scaledRates[i - 1]));
+			}
+		}
+		this.scaledCap = FixedPointRate.toScaledCents(cap, divisor, RoundingMode.FLOOR);
+	}
+
+	public double calculateTax(double amount) {
+		if (amount <= thresholds[0]) {
+			return 0;
+		}
+		int bracket = bracketOf(thresholds, amount);
+		double tax = baseTax[bracket] + (amount - thresholds[bracket]) * rates[bracket];
+		return Math.min(tax, cap);
+	}
+
+	//	Throws ArithmeticException if the scaled tax overflows a long.
+	@Override
+	public long calculateTaxCents(long amountCents, RoundingMode roundingMode) {
+		if (amountCents <= thresholdCents[0]) {
+			return 0;
+		}
+		int bracket = bracketOf(thresholdCents, amountCents);
+		long above = amountCents - (long) thresholdCents[bracket];
+		long tax = Math.addExact(scaledBaseTax[bracket], Math.multiplyExact(above, scaledRates[bracket]));
+		return FixedPointRate.divide(Math.min(tax, scaledCap), rateDivisor, roundingMode);
+	}
+
+	//	Index of the highest threshold not above the amount; amount > t[0].
+	private static int bracketOf(double[] t, double amount) {
+		if (t.length <= LINEAR_SEARCH_LIMIT) {
+			int bracket = 0;
+			for (int i = 1; i < t.length; i++) {
+				bracket += (amount >= t[i]) ? 1 : 0;
+			}
+			return bracket;
+		}
+		//	Branch-free binary search: the loop count depends only on the schedule size,
+		//	and the comparison becomes a conditional move rather than a mispredicted jump.
+		int base = 0;
+		int n = t.length;
+		while (n > 1) {
+			int half = n >>> 1;
+			base = (t[base + half] <= amount) ? base + half : base;
+			n -= half;
+		}
+		return base;
+	}
+
+	private static double[] parse(String[] values) {
+		double[] parsed = new double[values.length];
+		for (int i = 0; i < values.length; i++) {
+			parsed[i] = Double.parseDouble(values[i].strip());
+		}
+		return parsed;
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.example.service;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.example.Config;
+
+class CategoryTaxCalculatorTest {
+
+    private static final Offset<Double> CENT = Offset.offset(0.005);
+
+    @Test
+    void testRatesFromProperties() {
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext()) {
+            spring.getEnvironment().setActiveProfiles("category");
+            spring.register(Config.class);
+            spring.refresh();
+
+            Register register = spring.getBean(Register.class);
+            Assertions.assertThat(register.computeTotal(100, Category.FOOD)).isEqualTo(100.00);
+            Assertions.assertThat(register.computeTotal(100, Category.CLOTHING)).isCloseTo(104.00, CENT);
+            Assertions.assertThat(register.computeTotal(100, Category.DIGITAL)).isCloseTo(107.00, CENT);
+            Assertions.assertThat(register.computeTotal(100, Category.GENERAL)).isCloseTo(106.00, CENT);
+            Assertions.assertThat(register.computeTotal(100)).isCloseTo(106.00, CENT);
+        }
+    }
+
+    @Test
+    void testSingleRateCalculatorIgnoresCategory() {
+        Register register = new Register(new SalesTaxCalculator(0.06));
+        for (Category category : Category.values()) {
+            Assertions.assertThat(register.computeTotal(100, category)).isCloseTo(106.00, CENT);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.service;
+
+import java.nio.charset.StandardCharsets;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.io.ByteArrayResource;
+
+import com.example.Config;
+
+class JurisdictionTaxCalculatorTest {
+
+    @Test
+    void testLoadsLargeUnsortedRateFile() {
+        //  40,000 jurisdictions written in descending order, so the loader has to sort them:
+        StringBuilder file = new StringBuilder("# code,rate\n");
+        for (int code = 99_999; code >= 60_000; code--) {
+            file.append(code).append(',').append(rateOf(code)).append('\n');
+        }
+        JurisdictionTaxCalculator calc = new JurisdictionTaxCalculator(
+            new ByteArrayResource(file.toString().getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertThat(calc.size()).isEqualTo(40_000);
+        for (int code = 60_000; code <= 99_999; code += 7) {
+            Assertions.assertThat(calc.rateFor(code)).isEqualTo(rateOf(code));
+        }
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> calc.rateFor(12_345));
+    }
+
+    @Test
+    void testDuplicateCodesAreRejected() {
+        ByteArrayResource file = new ByteArrayResource("10001,0.05\n10001,0.06\n".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThatIllegalStateException().isThrownBy(() -> new JurisdictionTaxCalculator(file));
+    }
+
+    @Test
+    void testRegisterPricesByJurisdiction() {
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext()) {
+            spring.getEnvironment().setActiveProfiles("jurisdiction");
+            spring.register(Config.class);
+            spring.refresh();
+
+            Register register = spring.getBean(Register.class);
+            Assertions.assertThat(register.computeTotal(100, 60601)).isEqualTo(100 + 100 * 0.1025);
+            Assertions.assertThat(register.computeTotal(100, 97201)).isEqualTo(100.00);
+        }
+    }
+
+    private static double rateOf(int code) {
+        return (code % 1_000) / 10_000.0;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+class ReceiptTotalingTest {
+
+    private final Register register = new Register(new SalesTaxCalculator(0.06));
+    private final double[] amounts = new Random(42).doubles(1_000_000, 0.01, 5_000).toArray();
+
+    @Test
+    void testTotalsMatchExactReference() {
+        Receipt receipt = register.totalOf(Arrays.stream(amounts));
+
+        BigDecimal subtotal = BigDecimal.ZERO;
+        BigDecimal tax = BigDecimal.ZERO;
+        for (double amount : amounts) {
+            subtotal = subtotal.add(new BigDecimal(amount));
+            tax = tax.add(new BigDecimal(amount * 0.06));
+        }
+        Assertions.assertThat(receipt.subtotal()).isCloseTo(subtotal.doubleValue(), Offset.offset(1e-6));
+        Assertions.assertThat(receipt.tax()).isCloseTo(tax.doubleValue(), Offset.offset(1e-6));
+        Assertions.assertThat(receipt.total()).isEqualTo(receipt.subtotal() + receipt.tax());
+    }
+
+    @Test
+    void testResultDoesNotDependOnParallelism() {
+        Receipt expected = register.totalOf(Arrays.stream(amounts).sequential().spliterator(), ForkJoinPool.commonPool());
+        for (int parallelism : new int[] { 1, 2, 3, 8, 32 }) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                Assertions.assertThat(register.totalOf(Arrays.spliterator(amounts), pool)).isEqualTo(expected);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void testEmptyBatch() {
+        Assertions.assertThat(register.totalOf(Arrays.stream(new double[0]))).isEqualTo(new Receipt(0, 0, 0));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.service;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+//  The batch computeTotals() must give the same totals as computeTotal(), one amount at a time.
+class RegisterComputeTotalsTest {
+
+    static Stream<TaxCalculator> calculators() {
+        return Stream.of(new SalesTaxCalculator(0.06), new CompoundSalesTaxCalculator(0.06, 0.025));
+    }
+
+    @ParameterizedTest
+    @MethodSource("calculators")
+    void testComputeTotals(TaxCalculator calculator) {
+        Register register = new Register(calculator);
+        double[] amounts = new Random(42).doubles(1_000, 0.01, 10_000).toArray();
+        double[] totals = new double[amounts.length];
+        register.computeTotals(amounts, totals);
+        for (int i = 0; i < amounts.length; i++) {
+            Assertions.assertThat(totals[i]).isEqualTo(register.computeTotal(amounts[i]));
+        }
+
+        double[] slice = new double[amounts.length];
+        register.computeTotals(amounts, slice, 10, 20);
+        Assertions.assertThat(slice[9]).isZero();
+        Assertions.assertThat(slice[10]).isEqualTo(totals[10]);
+        Assertions.assertThat(slice[29]).isEqualTo(totals[29]);
+        Assertions.assertThat(slice[30]).isZero();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.example.Config;
+import com.example.FunctionalConfig;
+
+class RegisterFunctionalTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "default", "compound", "tiered", "category", "pipeline", "reloadable",
+        "tiered,category", "category,reloadable", "compound,tiered", "pipeline,tiered,category,reloadable" })
+    void testMatchesAnnotationConfig(String profileList) {
+        String[] profiles = profileList.split(",");
+        try (GenericApplicationContext functional = FunctionalConfig.createContext(profiles);
+             AnnotationConfigApplicationContext annotated = new AnnotationConfigApplicationContext()) {
+            annotated.getEnvironment().setActiveProfiles(profiles);
+            annotated.register(Config.class);
+            annotated.refresh();
+
+            Register expected = annotated.getBean(Register.class);
+            Register actual = functional.getBean(Register.class);
+            Assertions.assertThat(functional.getBean(TaxCalculator.class))
+                .hasSameClassAs(annotated.getBean(TaxCalculator.class));
+            for (double amount : new double[] { 0, 9.99, 100, 2_500, 50_000 }) {
+                Assertions.assertThat(actual.computeTotal(amount)).isEqualTo(expected.computeTotal(amount));
+            }
+        }
+    }
+}
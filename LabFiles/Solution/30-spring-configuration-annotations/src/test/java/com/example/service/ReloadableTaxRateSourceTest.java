@@ -0,0 +1,102 @@
+package com.example.service;
+
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.FileUrlResource;
+
+import com.example.Config;
+
+class ReloadableTaxRateSourceTest {
+
+    @TempDir Path dir;
+
+    @Test
+    void testReloadPublishesNewSnapshot() throws IOException {
+        Path ratesFile = writeRates(dir.resolve("rates.properties"), "tax.rate=0.06");
+        ReloadableTaxRateSource source = new ReloadableTaxRateSource(new FileSystemResource(ratesFile));
+        Register register = new Register(new ReloadableSalesTaxCalculator(source));
+        Assertions.assertThat(register.computeTotal(100)).isEqualTo(100.00 + 6.00);
+
+        TaxRateSnapshot before = source.current();
+        writeRates(ratesFile, "tax.rate=0.05\nlocal.tax.rate=0.02");
+        source.reload();
+
+        Assertions.assertThat(register.computeTotal(100)).isEqualTo(100 + 100 * (0.05 + 0.02));
+        Assertions.assertThat(register.computeTotalCents(2_005, RoundingMode.HALF_EVEN)).isEqualTo(2_005 + 140);
+        Assertions.assertThat(source.current().version()).isEqualTo(before.version() + 1);
+        Assertions.assertThat(source.getReloadCount()).isEqualTo(1);
+        Assertions.assertThat(source.getLastReloadLatencyNanos()).isPositive();
+
+        //  A calculation that started on the old snapshot finishes after the reload:
+        source.recordIfStale(before);
+        Assertions.assertThat(source.getStaleCalculationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRatesFileChangeIsPickedUpWithoutRestart() throws Exception {
+        Path ratesFile = writeRates(dir.resolve("rates.properties"), "tax.rate=0.06");
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext()) {
+            spring.getEnvironment().setActiveProfiles("reloadable");
+            spring.getEnvironment().getPropertySources().addFirst(
+                new MapPropertySource("test", Map.of("tax.rates.file", ratesFile.toUri().toString())));
+            spring.register(Config.class);
+            spring.refresh();
+
+            Register register = spring.getBean(Register.class);
+            Assertions.assertThat(register.computeTotal(100)).isEqualTo(100.00 + 6.00);
+
+            writeRates(ratesFile, "tax.rate=0.08");
+            ReloadableTaxRateSource source = spring.getBean(ReloadableTaxRateSource.class);
+            for (int i = 0; i < 200 && source.getReloadCount() == 0; i++) {
+                Thread.sleep(100);
+            }
+            Assertions.assertThat(register.computeTotal(100)).isEqualTo(100.00 + 8.00);
+        }
+    }
+
+    @Test
+    void testProfileStartsWithSampleRatesFile() {
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext()) {
+            spring.getEnvironment().setActiveProfiles("reloadable");
+            spring.register(Config.class);
+            spring.refresh();
+
+            Assertions.assertThat(spring.getBean(Register.class).computeTotal(100)).isEqualTo(100.00 + 6.00);
+        }
+    }
+
+    @Test
+    void testMissingRatesFileNamesItsAbsolutePath() {
+        Assertions.assertThatIllegalStateException()
+            .isThrownBy(() -> new ReloadableTaxRateSource(new FileUrlResource("no-such-rates.properties")))
+            .withMessageContaining(Path.of("no-such-rates.properties").toAbsolutePath().toString());
+    }
+
+    @Test
+    void testRelativeLocationIsNotTheWorkingDirectory() {
+        //  Without a prefix the location is resolved on the classpath, wherever the JVM was started:
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext()) {
+            spring.getEnvironment().setActiveProfiles("reloadable");
+            spring.getEnvironment().getPropertySources().addFirst(
+                new MapPropertySource("test", Map.of("tax.rates.file", "tax-rates.properties")));
+            spring.register(Config.class);
+            spring.refresh();
+
+            Assertions.assertThat(spring.getBean(Register.class).computeTotal(100)).isEqualTo(100.00 + 6.00);
+        }
+    }
+
+    private static Path writeRates(Path file, String content) throws IOException {
+        return Files.writeString(file, content);
+    }
+}
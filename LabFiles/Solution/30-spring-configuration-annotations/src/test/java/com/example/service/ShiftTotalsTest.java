@@ -0,0 +1,101 @@
+package com.example.service;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.example.Config;
+
+class ShiftTotalsTest {
+
+    @Test
+    void testConcurrentRecordingIsNotLost() throws InterruptedException {
+        ShiftTotals totals = new ShiftTotals(8);
+        int threads = 16;
+        int perThread = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    totals.record(1_000, 60);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+
+        //  Every snapshot taken mid-shift must be internally consistent:
+        for (int i = 0; i < 100; i++) {
+            ShiftSnapshot snapshot = totals.snapshot();
+            Assertions.assertThat(snapshot.netCents()).isEqualTo(snapshot.transactions() * 1_000);
+            Assertions.assertThat(snapshot.taxCents()).isEqualTo(snapshot.transactions() * 60);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        ShiftSnapshot shift = totals.snapshotAndReset();
+        Assertions.assertThat(shift.transactions()).isEqualTo((long) threads * perThread);
+        Assertions.assertThat(shift.grossCents()).isEqualTo((long) threads * perThread * 1_060);
+        Assertions.assertThat(totals.snapshot()).isEqualTo(new ShiftSnapshot(0, 0, 0));
+    }
+
+    @Test
+    void testRegisterAccumulatesUnderProfile() {
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext()) {
+            spring.getEnvironment().setActiveProfiles("accumulating");
+            spring.register(Config.class);
+            spring.refresh();
+
+            Register register = spring.getBean(Register.class);
+            register.computeTotal(100);
+            register.computeTotalCents(2_000, RoundingMode.HALF_EVEN);
+
+            ShiftSnapshot shift = spring.getBean(ShiftTotals.class).snapshot();
+            Assertions.assertThat(shift).isEqualTo(new ShiftSnapshot(12_000, 720, 2));
+        }
+    }
+
+    @Test
+    void testRegisterAccumulatesBatchAndParallelTotals() {
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext()) {
+            spring.getEnvironment().setActiveProfiles("accumulating");
+            spring.register(Config.class);
+            spring.refresh();
+
+            Register register = spring.getBean(Register.class);
+            ShiftTotals totals = spring.getBean(ShiftTotals.class);
+            double[] amounts = { 100, 20 };
+            ShiftSnapshot perItem = new ShiftSnapshot(12_000, 720, 2);
+
+            register.computeTotals(amounts, new double[amounts.length]);
+            Assertions.assertThat(totals.snapshotAndReset()).isEqualTo(perItem);
+
+            double[] inPlace = amounts.clone();
+            register.computeTotals(inPlace, inPlace);
+            Assertions.assertThat(totals.snapshotAndReset()).isEqualTo(perItem);
+
+            ForkJoinPool pool = new ForkJoinPool(2);
+            try {
+                register.totalOf(DoubleStream.of(amounts), pool);
+            } finally {
+                pool.shutdown();
+            }
+            Assertions.assertThat(totals.snapshotAndReset()).isEqualTo(perItem);
+        }
+    }
+}
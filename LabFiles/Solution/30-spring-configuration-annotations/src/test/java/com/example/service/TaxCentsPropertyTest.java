@@ -0,0 +1,97 @@
+package com.example.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+//  Property test: the long-cents path must agree with a BigDecimal reference 
+//  for every rounding mode, across random amounts and the exact-half boundaries.
+class TaxCentsPropertyTest {
+
+    private static final double[] RATES = { 0.0, 0.05, 0.06, 0.0725, 0.085, 0.1, 0.125 };
+    private static final int SAMPLES = 20_000;
+
+    @ParameterizedTest
+    @EnumSource(value = RoundingMode.class, mode = EnumSource.Mode.EXCLUDE, names = "UNNECESSARY")
+    void salesTaxMatchesBigDecimal(RoundingMode mode) {
+        for (double rate : RATES) {
+            TaxCalculator calc = new SalesTaxCalculator(rate);
+            checkAgainstReference(calc, BigDecimal.valueOf(rate), mode);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RoundingMode.class, mode = EnumSource.Mode.EXCLUDE, names = "UNNECESSARY")
+    void compoundTaxMatchesBigDecimal(RoundingMode mode) {
+        for (double rate : RATES) {
+            double localRate = 0.025;
+            TaxCalculator calc = new CompoundSalesTaxCalculator(rate, localRate);
+            checkAgainstReference(calc, BigDecimal.valueOf(rate).add(BigDecimal.valueOf(localRate)), mode);
+        }
+    }
+
+    //  The default calculateTaxCents() must work in currency units, so a calculator that is 
+    //  not linear (here: the first 100.00 exempt, tax capped at 5,000.00) still comes out right.
+    @ParameterizedTest
+    @EnumSource(value = RoundingMode.class, mode = EnumSource.Mode.EXCLUDE, names = "UNNECESSARY")
+    void nonLinearTaxMatchesBigDecimal(RoundingMode mode) {
+        TaxCalculator calc = amount -> Math.min(Math.max(amount - 100, 0) * 0.06, 5_000);
+        Random random = new Random(mode.ordinal());
+        for (int i = 0; i < SAMPLES; i++) {
+            long cents = random.nextInt(20_000_000);   // up to 200,000.00, past the cap
+            Assertions.assertThat(calc.calculateTaxCents(cents, mode))
+                .as("%d cents, %s", cents, mode)
+                .isEqualTo(exemptAndCapped(cents, mode));
+        }
+        for (long cents = 8_000; cents <= 12_000; cents++) {
+            Assertions.assertThat(calc.calculateTaxCents(cents, mode))
+                .as("%d cents, %s", cents, mode)
+                .isEqualTo(exemptAndCapped(cents, mode));
+        }
+        Assertions.assertThat(calc.calculateTaxCents(20_000, mode)).isEqualTo(600);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RoundingMode.class, mode = EnumSource.Mode.EXCLUDE, names = "UNNECESSARY")
+    void registerTotalMatchesBigDecimal(RoundingMode mode) {
+        Register register = new Register(new SalesTaxCalculator(0.06));
+        Random random = new Random(mode.ordinal());
+        for (int i = 0; i < SAMPLES; i++) {
+            long cents = random.nextInt(10_000_000);
+            long expected = cents + reference(cents, BigDecimal.valueOf(0.06), mode);
+            Assertions.assertThat(register.computeTotalCents(cents, mode)).isEqualTo(expected);
+        }
+    }
+
+    private void checkAgainstReference(TaxCalculator calc, BigDecimal rate, RoundingMode mode) {
+        Random random = new Random(31L * mode.ordinal() + rate.hashCode());
+        for (int i = 0; i < SAMPLES; i++) {
+            long cents = random.nextLong() % 1_000_000_000_000L;	// up to +/- 10 billion dollars
+            assertMatches(calc, rate, mode, cents);
+        }
+        //  Small amounts hit every remainder, including the exact halves (e.g. 10 cents at 5%):
+        for (long cents = -2_000; cents <= 2_000; cents++) {
+            assertMatches(calc, rate, mode, cents);
+        }
+    }
+
+    private void assertMatches(TaxCalculator calc, BigDecimal rate, RoundingMode mode, long cents) {
+        Assertions.assertThat(calc.calculateTaxCents(cents, mode))
+            .as("%d cents at %s, %s", cents, rate, mode)
+            .isEqualTo(reference(cents, rate, mode));
+    }
+
+    private static long exemptAndCapped(long cents, RoundingMode mode) {
+        BigDecimal taxable = BigDecimal.valueOf(Math.max(cents - 10_000, 0));
+        return taxable.multiply(BigDecimal.valueOf(0.06)).min(BigDecimal.valueOf(500_000))
+            .setScale(0, mode).longValueExact();
+    }
+
+    private static long reference(long cents, BigDecimal rate, RoundingMode mode) {
+        return BigDecimal.valueOf(cents).multiply(rate).setScale(0, mode).longValueExact();
+    }
+}
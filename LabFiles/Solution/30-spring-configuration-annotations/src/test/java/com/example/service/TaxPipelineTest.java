@@ -0,0 +1,99 @@
+package com.example.service;
+
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.example.Config;
+
+class TaxPipelineTest {
+
+    @Test
+    void testRatesOnlyPipelineMatchesCompoundCalculator() {
+        TaxCalculator fused = TaxPipeline.builder().baseRate(0.06).localRate(0.025).build();
+        TaxCalculator compound = new CompoundSalesTaxCalculator(0.06, 0.025);
+
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            double amount = random.nextDouble() * 10_000 - 100;
+            Assertions.assertThat(fused.calculateTax(amount)).isEqualTo(compound.calculateTax(amount));
+        }
+    }
+
+    @Test
+    void testStagesApplyInFixedOrder() {
+        TaxCalculator fused = TaxPipeline.builder()
+            .rounding(2, RoundingMode.HALF_UP)
+            .cap(50)
+            .exemption(100)
+            .baseRate(0.05)
+            .build();
+
+        Assertions.assertThat(fused.calculateTax(80)).isZero();
+        Assertions.assertThat(fused.calculateTax(200)).isEqualTo(5.00);
+        Assertions.assertThat(fused.calculateTax(100.50)).isEqualTo(0.03);  // 0.025 rounds half up
+        Assertions.assertThat(fused.calculateTax(10_000)).isEqualTo(50.00);
+    }
+
+    @Test
+    void testHalfEvenRounding() {
+        TaxCalculator fused = TaxPipeline.builder().baseRate(0.5).rounding(0, RoundingMode.HALF_EVEN).build();
+
+        Assertions.assertThat(fused.calculateTax(5)).isEqualTo(2.0);
+        Assertions.assertThat(fused.calculateTax(7)).isEqualTo(4.0);
+    }
+
+    @Test
+    void testCentsPathAppliesStagesInCents() {
+        TaxCalculator fused = TaxPipeline.builder().exemption(100).cap(50).baseRate(0.06).build();
+        TaxCalculator viaDouble = fused::calculateTax;   // the default cents path, through calculateTax()
+
+        Assertions.assertThat(fused.calculateTaxCents(20_000, RoundingMode.HALF_EVEN)).isEqualTo(600);
+        for (RoundingMode mode : new RoundingMode[] { RoundingMode.HALF_UP, RoundingMode.HALF_EVEN, RoundingMode.FLOOR, RoundingMode.CEILING }) {
+            for (long cents = -1_000; cents <= 1_500_000; cents += 17) {
+                Assertions.assertThat(fused.calculateTaxCents(cents, mode))
+                    .as("%d cents, %s", cents, mode)
+                    .isEqualTo(viaDouble.calculateTaxCents(cents, mode));
+            }
+        }
+    }
+
+    @Test
+    void testCentsPathRoundsLikeTheRoundingStage() {
+        TaxCalculator cents = TaxPipeline.builder()
+            .rounding(2, RoundingMode.HALF_UP)
+            .cap(50)
+            .exemption(100)
+            .baseRate(0.05)
+            .build();
+
+        Assertions.assertThat(cents.calculateTaxCents(8_000, RoundingMode.FLOOR)).isZero();
+        Assertions.assertThat(cents.calculateTaxCents(20_000, RoundingMode.FLOOR)).isEqualTo(500);
+        Assertions.assertThat(cents.calculateTaxCents(10_050, RoundingMode.FLOOR)).isEqualTo(3);
+        Assertions.assertThat(cents.calculateTaxCents(1_000_000, RoundingMode.FLOOR)).isEqualTo(5_000);
+
+        TaxCalculator dollars = TaxPipeline.builder().baseRate(0.5).rounding(0, RoundingMode.HALF_EVEN).build();
+        Assertions.assertThat(dollars.calculateTaxCents(500, RoundingMode.UP)).isEqualTo(200);
+        Assertions.assertThat(dollars.calculateTaxCents(700, RoundingMode.UP)).isEqualTo(400);
+
+        TaxCalculator tenths = TaxPipeline.builder().baseRate(0.0725).rounding(3, RoundingMode.HALF_UP).build();
+        //  0.5075 cents is first rounded to 0.5 cents by the stage, then to whole cents by the caller:
+        Assertions.assertThat(tenths.calculateTaxCents(7, RoundingMode.HALF_EVEN)).isZero();
+        Assertions.assertThat(tenths.calculateTaxCents(7, RoundingMode.HALF_UP)).isEqualTo(1);
+    }
+
+    @Test
+    void testPipelineProfile() {
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext()) {
+            spring.getEnvironment().setActiveProfiles("pipeline");
+            spring.register(Config.class);
+            spring.refresh();
+
+            Register register = spring.getBean(Register.class);
+            Assertions.assertThat(register.computeTotal(100)).isEqualTo(100.00 + 8.50);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.service;
+
+import java.math.RoundingMode;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.example.Config;
+
+class TieredTaxCalculatorTest {
+
+    private static final Offset<Double> CENT = Offset.offset(0.005);
+
+    @Test
+    void testMarginalBrackets() {
+        TieredTaxCalculator calc = new TieredTaxCalculator(
+            new double[] { 0, 1_000, 10_000 },
+            new double[] { 0.06, 0.08, 0.1 });
+
+        Assertions.assertThat(calc.calculateTax(0)).isZero();
+        Assertions.assertThat(calc.calculateTax(500)).isCloseTo(30.00, CENT);
+        Assertions.assertThat(calc.calculateTax(1_000)).isCloseTo(60.00, CENT);
+        Assertions.assertThat(calc.calculateTax(5_000)).isCloseTo(60.00 + 320.00, CENT);
+        Assertions.assertThat(calc.calculateTax(12_000)).isCloseTo(60.00 + 720.00 + 200.00, CENT);
+    }
+
+    @Test
+    void testBinarySearchMatchesLinearScan() {
+        double[] thresholds = new double[32];
+        double[] rates = new double[32];
+        for (int i = 0; i < thresholds.length; i++) {
+            thresholds[i] = i * 100;
+            rates[i] = 0.01 * (i % 5);
+        }
+        TieredTaxCalculator calc = new TieredTaxCalculator(thresholds, rates);
+
+        for (double amount = 0; amount < 4_000; amount += 12.5) {
+            double expected = 0;
+            for (int i = 0; i < thresholds.length; i++) {
+                double upper = (i + 1 < thresholds.length) ? thresholds[i + 1] : Double.MAX_VALUE;
+                expected += Math.max(0, Math.min(amount, upper) - thresholds[i]) * rates[i];
+            }
+            Assertions.assertThat(calc.calculateTax(amount)).as("amount %s", amount).isCloseTo(expected, CENT);
+        }
+    }
+
+    @Test
+    void testCapLimitsTax() {
+        TieredTaxCalculator calc = new TieredTaxCalculator(
+            new double[] { 0, 50_000 }, new double[] { 0.05, 0.2 }, 5_000);
+
+        Assertions.assertThat(calc.calculateTax(10_000)).isCloseTo(500.00, CENT);
+        Assertions.assertThat(calc.calculateTax(100_000)).isEqualTo(5_000.00);
+    }
+
+    @Test
+    void testCentsPathMatchesDoublePath() {
+        TieredTaxCalculator calc = new TieredTaxCalculator(
+            new double[] { 0, 1_000, 10_000 }, new double[] { 0.06, 0.0825, 0.1 }, 2_500);
+        TaxCalculator viaDouble = calc::calculateTax;   // the default cents path, through calculateTax()
+
+        for (RoundingMode mode : new RoundingMode[] { RoundingMode.HALF_UP, RoundingMode.HALF_EVEN, RoundingMode.FLOOR, RoundingMode.CEILING }) {
+            for (long cents = -1_000; cents <= 3_000_000; cents += 37) {
+                Assertions.assertThat(calc.calculateTaxCents(cents, mode))
+                    .as("%d cents, %s", cents, mode)
+                    .isEqualTo(viaDouble.calculateTaxCents(cents, mode));
+            }
+        }
+        Assertions.assertThat(calc.calculateTaxCents(100_000, RoundingMode.HALF_EVEN)).isEqualTo(6_000);
+        Assertions.assertThat(calc.calculateTaxCents(200_000, RoundingMode.HALF_EVEN)).isEqualTo(6_000 + 8_250);
+        Assertions.assertThat(calc.calculateTaxCents(10_000_000, RoundingMode.HALF_EVEN)).isEqualTo(250_000);
+    }
+
+    @Test
+    void testScheduleFromProperties() {
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext()) {
+            spring.getEnvironment().setActiveProfiles("tiered");
+            spring.register(Config.class);
+            spring.refresh();
+
+            Register register = spring.getBean(Register.class);
+            Assertions.assertThat(register.computeTotal(2_000)).isCloseTo(2_000 + 60.00 + 80.00, CENT);
+            Assertions.assertThat(register.computeTotalCents(200_000, RoundingMode.HALF_EVEN)).isEqualTo(200_000 + 14_000);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.example.service.Register;
+import com.example.support.StartupProfiler;
+
+public class App {
+
+    public static void main(String[] args) {
+        //  -Dstartup.profile=<dir> writes a startup timing table and a JFR recording there.
+        try (AnnotationConfigApplicationContext spring = 
+                StartupProfiler.attachIfEnabled(new AnnotationConfigApplicationContext())) {
+            spring.register(Config.class);
+            spring.refresh();
+            Register register = spring.getBean(Register.class);
+            System.out.println("Total: " + register.computeTotal(100.00));
+        }
+    }
+}
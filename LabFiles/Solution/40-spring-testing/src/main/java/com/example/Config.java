@@ -1,13 +1,24 @@
 package com.example;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.context.annotation.PropertySource;
 
+import com.example.support.ComponentIndexReport;
+
 
 @Configuration   
 @PropertySource("classpath:app.properties")
 @ComponentScan(basePackages = "com.example.service")
 public class Config {
 
+    //  Opt-in report of whether @ComponentScan used the compile-time index, with the
+    //  "component-index" profile.  Static, so it does not force early creation of Config itself.
+    @Bean
+    @Profile("component-index")
+    public static ComponentIndexReport componentIndexReport() {
+        return new ComponentIndexReport("com.example.service");
+    }
 }
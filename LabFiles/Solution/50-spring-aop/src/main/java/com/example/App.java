@@ -0,0 +1,20 @@
+package com.example;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.example.service.PurchaseService;
+import com.example.support.StartupProfiler;
+
+public class App {
+
+    public static void main(String[] args) {
+        //  -Dstartup.profile=<dir> writes a startup timing table and a JFR recording there.
+        try (AnnotationConfigApplicationContext spring = 
+                StartupProfiler.attachIfEnabled(new AnnotationConfigApplicationContext())) {
+            spring.register(Config.class);
+            spring.refresh();
+            PurchaseService purchaseService = spring.getBean(PurchaseService.class);
+            System.out.println("Purchases: " + purchaseService.findAllPurchases().size());
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.example;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Profile;
 import org.springframework.context.annotation.PropertySource;
 
+import com.example.support.ComponentIndexReport;
+
 //  TODO-02: Add an annotation to this configuration class to enable AspectJ proxying:
 @EnableAspectJAutoProxy
 
@@ -13,5 +17,11 @@ import org.springframework.context.annotation.PropertySource;
 @ComponentScan("com.example")
 public class Config {
 
-    
+    //  Opt-in report of whether @ComponentScan used the compile-time index, with the
+    //  "component-index" profile.  Static, so it does not force early creation of Config itself.
+    @Bean
+    @Profile("component-index")
+    public static ComponentIndexReport componentIndexReport() {
+        return new ComponentIndexReport("com.example");
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Date;
 
@@ -7,6 +8,7 @@ import com.example.domain.Purchase;
 
 public interface PurchaseDao { 
 	public void savePurchase(Purchase purchase);
+	public void savePurchases(Collection<Purchase> purchases);
 	public List<Purchase> getAllPurchases();
 	public Purchase getPurchase(int id);
 	public Purchase getPurchase(String name, Date Date);
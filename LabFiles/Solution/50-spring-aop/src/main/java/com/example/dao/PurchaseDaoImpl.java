@@ -1,5 +1,6 @@
 package com.example.dao;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -28,6 +29,11 @@ public class PurchaseDaoImpl implements PurchaseDao {
 		randomDelay();
 	}
 
+	@Override
+	public void savePurchases(Collection<Purchase> purchases) {
+		randomDelay();
+	}
+
 
 	@Override
 	public Purchase getPurchase(String name, Date date) {
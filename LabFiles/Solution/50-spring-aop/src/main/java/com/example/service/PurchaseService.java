@@ -1,5 +1,6 @@
 package com.example.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -7,6 +8,7 @@ import com.example.domain.Purchase;
 
 public interface PurchaseService {
 	public void savePurchase(Purchase purchase);
+	public void savePurchases(Collection<Purchase> purchases);
 	public List<Purchase> findAllPurchases();
 	public Purchase findPurchase(int id);
 	public Purchase findPurchase(String name, Date Date);
@@ -1,5 +1,6 @@
 package com.example.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -34,5 +35,9 @@ public class PurchaseServiceImpl implements PurchaseService {
 		purchaseDAO.savePurchase(purchase);
 	}
 
+	public void savePurchases(Collection<Purchase> purchases) {
+		purchaseDAO.savePurchases(purchases);
+	}
+
 
 }
@@ -0,0 +1,36 @@
+package com.example;
+
+import java.nio.file.Path;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.aot.ContextAotProcessor;
+import org.springframework.context.support.GenericApplicationContext;
+
+//  Build-time entry point for the processAot task.  Refreshes Config for AOT 
+//  processing (no beans are instantiated) and writes the resulting bean definitions 
+//  as Java source, together with reflection and resource hints.
+//  Arguments: <source output> <resource output> <class output> <artifact id>
+public class AppAotProcessor extends ContextAotProcessor {
+
+    public AppAotProcessor(Settings settings) {
+        super(App.class, settings);
+    }
+
+    @Override
+    protected GenericApplicationContext prepareApplicationContext(Class<?> application) {
+        AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext();
+        spring.register(Config.class);
+        return spring;
+    }
+
+    public static void main(String[] args) {
+        Settings settings = Settings.builder()
+            .sourceOutput(Path.of(args[0]))
+            .resourceOutput(Path.of(args[1]))
+            .classOutput(Path.of(args[2]))
+            .groupId("com.example")
+            .artifactId(args[3])
+            .build();
+        new AppAotProcessor(settings).process();
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Date;
+import java.util.stream.Stream;
 
 import com.example.domain.Purchase;
+import com.example.support.BatchStats;
 
 public interface PurchaseDao { 
 	public void savePurchase(Purchase purchase);
+	public BatchStats savePurchases(Collection<Purchase> purchases);
 	public List<Purchase> getAllPurchases();
+	public Stream<Purchase> streamAllPurchases();
+	public List<Purchase> getPurchasesAfter(int lastId, int limit);
 	public Purchase getPurchase(int id);
 	public Purchase getPurchase(String name, Date Date);
 }
@@ -1,13 +1,23 @@
 package com.example.dao;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SimplePropertyRowMapper;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
 import com.example.domain.Purchase;
+import com.example.support.BatchStats;
+import com.example.support.JdbcBatchInsert;
 
 // TODO-04: Annotate to this class to define it as a Spring bean.
 // Select the most descriptive stereotype annotation.
@@ -18,6 +28,30 @@ public class PurchaseDaoImpl implements PurchaseDao {
 	// Use whatever injection technique you like (constructor, setter, field).
 	@Autowired JdbcClient jdbcClient;
 
+	private final JdbcTemplate jdbcTemplate;
+	private final JdbcBatchInsert<Purchase> batchInsert;
+	private final int fetchSize;
+
+	public PurchaseDaoImpl(JdbcTemplate jdbcTemplate, 
+			@Value("${purchase.batch-size}") int batchSize, 
+			@Value("${purchase.commit-interval}") int commitInterval,
+			@Value("${purchase.fetch-size}") int fetchSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.batchInsert = batchInsert(jdbcTemplate, batchSize, commitInterval);
+		this.fetchSize = fetchSize;
+	}
+
+	//	Rejects a batch-size or commit-interval below 1 here, at startup.
+	private static JdbcBatchInsert<Purchase> batchInsert(JdbcTemplate jdbcTemplate, int batchSize, int commitInterval) {
+		String sql = "insert into PURCHASE (CUSTOMERNAME, PRODUCT, PURCHASEDATE) values(?,?,?)";
+		return new JdbcBatchInsert<>(jdbcTemplate, sql, (statement, purchase) -> {
+			statement.setString(1, purchase.getCustomerName());
+			statement.setString(2, purchase.getProduct());
+			statement.setTimestamp(3, purchase.getPurchaseDate() == null 
+				? null : new Timestamp(purchase.getPurchaseDate().getTime()));
+		}, batchSize, commitInterval);
+	}
+
 	//	TODO-06:  Modify the getAllPurchases() method below.
 	//	Use the jdbcClient to retrieve purchases from the DB:
 	//  - The provided SQL retrieves all rows from the PURCHASE table.
@@ -36,6 +70,37 @@ public class PurchaseDaoImpl implements PurchaseDao {
 			.list();
 	}
 
+	//	Reads through a forward-only cursor, fetchSize rows per round trip, so memory stays 
+	//	flat however large the table is.  The connection stays open until the stream is 
+	//	closed, so always close it, e.g. with try-with-resources.
+	@Override
+	public Stream<Purchase> streamAllPurchases() {
+		String sql = "SELECT * FROM PURCHASE";
+		return jdbcTemplate.queryForStream(connection -> {
+			PreparedStatement statement = connection.prepareStatement(sql, 
+				ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			statement.setFetchSize(fetchSize);
+			return statement;
+		}, new SimplePropertyRowMapper<>(Purchase.class));   // what .query(Purchase.class) uses
+	}
+
+	//	Keyset paging: seeks past lastId on the primary key instead of counting off OFFSET 
+	//	rows, so every page costs the same.  HSQLDB reads LIMIT 0 as no limit at all, so a 
+	//	limit below 1 is rejected rather than returning the whole table.
+	@Override
+	public List<Purchase> getPurchasesAfter(int lastId, int limit) {
+		if (limit < 1) {
+			throw new IllegalArgumentException("limit must be positive, not " + limit);
+		}
+		String sql = "SELECT * FROM PURCHASE WHERE ID > ? ORDER BY ID LIMIT ?";
+		return jdbcClient
+			.sql(sql)
+			.param(lastId)
+			.param(limit)
+			.query(Purchase.class)
+			.list();
+	}
+
 	//	TODO-07: Modify the getPurchase() method below.
 	//	Use the jdbcClient to retrieve purchases from the DB:
 	//  - The provided SQL retrieves all rows from the PURCHASE table.
@@ -74,6 +139,14 @@ public class PurchaseDaoImpl implements PurchaseDao {
 	}
 
 
+	//	Sends the rows in JDBC batches of batch-size and commits every commit-interval rows; 
+	//	see JdbcBatchInsert.  Inside a surrounding transaction the commits are left to it.
+	@Override
+	public BatchStats savePurchases(Collection<Purchase> purchases) {
+		return batchInsert.insert(purchases);
+	}
+
+
 	@Override
 	public Purchase getPurchase(String name, Date date) {
 		String sql = "SELECT * FROM PURCHASE WHERE CUSTOMERNAME = ? and PURCHASEDATE = ?";
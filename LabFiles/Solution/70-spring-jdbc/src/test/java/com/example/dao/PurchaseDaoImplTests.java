@@ -1,16 +1,21 @@
 package com.example.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import com.example.Config;
 import com.example.domain.Purchase;
+import com.example.support.BatchStats;
 
 //	TODO-11: Annotate this class to make it a Spring test class.
 //  Include the configuration class you wish to load.
@@ -20,6 +25,7 @@ public class PurchaseDaoImplTests {
     // TODO-12: Have Spring inject a PurchaseDao into this class.
     //  PurchaseDao dao;
     @Autowired PurchaseDao dao;
+    @Autowired JdbcTemplate jdbcTemplate;
 
     //  TODO-13: Examine the test logic in the following method.
     //  It retrieves all purchases, then asserts that there are multiple purchases.
@@ -82,6 +88,72 @@ public class PurchaseDaoImplTests {
         assertThat(newPurchase.getProduct()).isEqualTo(p.getProduct());
     }
 
+    @Test
+    public void	savePurchases() {
+        int before = dao.getAllPurchases().size();
+        List<Purchase> purchases = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            Purchase p = new Purchase();
+            p.setCustomerName("Batch");
+            p.setProduct("Batch Product " + i);
+            p.setPurchaseDate(new Date());
+            purchases.add(p);
+        }
+
+        try {
+            BatchStats stats = dao.savePurchases(purchases);
+
+            //  Make sure every purchase was saved, across several batches and in one commit:
+            assertThat(stats.rows()).isEqualTo(purchases.size());
+            assertThat(stats.commits()).isEqualTo(1);
+            List<Purchase> after = dao.getAllPurchases();
+            assertThat(after).hasSize(before + purchases.size());
+            assertThat(after.get(after.size() - 1).getProduct()).isEqualTo("Batch Product 2499");
+        } finally {
+            //  The rows are committed, so remove them before the next test sees them:
+            jdbcTemplate.update("DELETE FROM PURCHASE WHERE CUSTOMERNAME = ?", "Batch");
+        }
+    }
+
+    @Test
+    public void	batchSizesMustBePositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new PurchaseDaoImpl(jdbcTemplate, 0, 10, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> new PurchaseDaoImpl(jdbcTemplate, 10, 0, 10));
+    }
+
+    @Test
+    public void	streamAllPurchases() {
+        try (Stream<Purchase> purchases = dao.streamAllPurchases()) {
+            assertThat(purchases.map(Purchase::getId))
+                .containsExactlyElementsOf(dao.getAllPurchases().stream().map(Purchase::getId).toList());
+        }
+    }
+
+    @Test
+    public void	getPurchasesAfter() {
+        List<Integer> all = dao.getAllPurchases().stream().map(Purchase::getId).sorted().toList();
+
+        //  The seeded purchases come back in ID order, two to a page:
+        assertThat(dao.getPurchasesAfter(0, 2)).extracting(Purchase::getId).containsExactly(1, 2);
+        assertThat(dao.getPurchasesAfter(1, 2)).extracting(Purchase::getId).containsExactly(2, 3);
+
+        //  Walk every page, each one starting after the last ID of the previous one:
+        List<Integer> paged = new ArrayList<>();
+        List<Purchase> page = dao.getPurchasesAfter(0, 2);
+        while (!page.isEmpty()) {
+            assertThat(page.size()).isLessThanOrEqualTo(2);
+            page.forEach(p -> paged.add(p.getId()));
+            page = dao.getPurchasesAfter(paged.get(paged.size() - 1), 2);
+        }
+
+        assertThat(paged).isEqualTo(all);
+    }
+
+    @Test
+    public void	getPurchasesAfterNeedsAPositiveLimit() {
+        assertThatIllegalArgumentException().isThrownBy(() -> dao.getPurchasesAfter(0, 0));
+    }
+
     //  TODO-16: Organize your imports, save your work
     //  Run this test class.  All tests should pass.
 }
@@ -0,0 +1,40 @@
+package com.example;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.example.service.PurchaseService;
+
+//  Cold start of the application context, one context per freshly forked JVM.  
+//  Without warmup this includes class loading and interpretation, which is what a 
+//  short-lived CLI actually pays.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Benchmark
+    public int annotationConfig() {
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext(Config.class)) {
+            return spring.getBean(PurchaseService.class).findAllPurchases().size();
+        }
+    }
+
+    @Benchmark
+    public int functionalConfig() {
+        try (GenericApplicationContext spring = FunctionalConfig.createContext()) {
+            return spring.getBean(PurchaseService.class).findAllPurchases().size();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.dao;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.example.domain.Purchase;
+
+//  Rows mapped per second by a BeanPropertyRowMapper created per query, as the DAO 
+//  used to do, against RowMappers.forType().  Both walk the same scrollable result 
+//  set over ROWS purchases, so the difference is the mapping alone: per-query 
+//  introspection and reflective setters against a cached plan and bound lambdas.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(RowMapperBenchmark.ROWS)
+public class RowMapperBenchmark {
+
+    static final int ROWS = 1000;
+
+    private EmbeddedDatabase db;
+    private Connection connection;
+    private Statement statement;
+    private ResultSet rs;
+
+    @Setup
+    public void setup() throws SQLException {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.HSQL)
+            .generateUniqueName(true)
+            .addScript("classpath:schema.sql")
+            .build();
+        connection = db.getConnection();
+        try (Statement insert = connection.createStatement()) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.addBatch("INSERT INTO PURCHASE (CUSTOMERNAME, PRODUCT, PURCHASEDATE) "
+                    + "VALUES ('Customer " + i + "', 'Product " + i + "', CURRENT_TIMESTAMP)");
+            }
+            insert.executeBatch();
+        }
+        statement = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        rs = statement.executeQuery("SELECT * FROM PURCHASE");
+    }
+
+    @Setup(Level.Invocation)
+    public void rewind() throws SQLException {
+        rs.beforeFirst();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        rs.close();
+        statement.close();
+        connection.close();
+        db.shutdown();
+    }
+
+    @Benchmark
+    public void beanPropertyRowMapper(Blackhole blackhole) throws SQLException {
+        map(new BeanPropertyRowMapper<>(Purchase.class), blackhole);
+    }
+
+    @Benchmark
+    public void cachedRowMapper(Blackhole blackhole) throws SQLException {
+        map(RowMappers.forType(Purchase.class), blackhole);
+    }
+
+    private void map(RowMapper<Purchase> mapper, Blackhole blackhole) throws SQLException {
+        int rowNum = 0;
+        while (rs.next()) {
+            blackhole.consume(mapper.mapRow(rs, rowNum++));
+        }
+    }
+}
@@ -3,14 +3,52 @@
  */
 package com.example;
 
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.BeanUtils;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.util.ClassUtils;
+
+import com.example.support.StartupProfiler;
 
 
 public class App {
 
     public static void main(String[] args) {
-        ApplicationContext spring =  
-            new AnnotationConfigApplicationContext(Config.class);
+        //  -Dapp.bootstrap=functional skips scanning and annotation processing.
+        ApplicationContext spring = "functional".equals(System.getProperty("app.bootstrap"))
+            ? FunctionalConfig.createContext()
+            : createContext();
+    }
+
+    //  With -Dspring.aot.enabled=true, start from the bean definitions generated by 
+    //  the processAot task instead of parsing Config and scanning com.example.
+    //  -Dstartup.profile=<dir> writes a startup timing table and a JFR recording there.
+    static ConfigurableApplicationContext createContext() {
+        if (AotDetector.useGeneratedArtifacts()) {
+            GenericApplicationContext spring = StartupProfiler.attachIfEnabled(new GenericApplicationContext());
+            aotInitializer().initialize(spring);
+            spring.refresh();
+            return spring;
+        }
+        AnnotationConfigApplicationContext spring = 
+            StartupProfiler.attachIfEnabled(new AnnotationConfigApplicationContext());
+        spring.register(Config.class);
+        spring.refresh();
+        return spring;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ApplicationContextInitializer<GenericApplicationContext> aotInitializer() {
+        String name = App.class.getName() + "__ApplicationContextInitializer";
+        try {
+            return (ApplicationContextInitializer<GenericApplicationContext>) 
+                BeanUtils.instantiateClass(ClassUtils.forName(name, App.class.getClassLoader()));
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(name + " not found; run the processAot task first", e);
+        }
     }
 }
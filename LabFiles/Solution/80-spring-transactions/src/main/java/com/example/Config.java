@@ -1,18 +1,33 @@
 package com.example;
 
+import java.nio.file.Path;
+
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import com.example.support.BackgroundBootstrap;
+import com.example.support.BulkFixtureLoader;
+import com.example.support.ComponentIndexReport;
+import com.example.support.HsqldbSnapshot;
+import com.example.support.LazyInitialization;
+
 //  TODO-01: Add an annotation to this class to enable Spring transaction management.
 @EnableTransactionManagement
 @Configuration   
@@ -20,20 +35,66 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @ComponentScan("com.example")
 public class Config {
 
-    @Bean
+    //  Runs the scripts in the background when the "parallel" profile supplies a bootstrap 
+    //  executor.  Beans that use it then get a lazy reference, so they need not wait for it.
+    @Bean(bootstrap = Bean.Bootstrap.BACKGROUND)
+    @Profile("!snapshot & !bulk")
     public DataSource dataSource() {
         return new EmbeddedDatabaseBuilder()
             .setType(EmbeddedDatabaseType.HSQL)
+            .generateUniqueName(true)   // contexts with different profiles may run side by side
             .addScript("classpath:schema.sql") 
             .addScript("classpath:data.sql")   
             .build();
     }
 
+    //  With the "snapshot" profile, start from a copy of a file-backed database that was 
+    //  built once from the same scripts, instead of running them again.
+    @Bean(name = "dataSource", bootstrap = Bean.Bootstrap.BACKGROUND)
+    @Profile("snapshot & !bulk")
+    public DataSource snapshotDataSource(
+            @Value("${db.snapshot.dir:${java.io.tmpdir}/purchase-db-snapshots}") String snapshotDir) {
+        return HsqldbSnapshot.open(Path.of(snapshotDir), 
+            new ClassPathResource("schema.sql"), new ClassPathResource("data.sql"));
+    }
+
+    //  With the "bulk" profile, load data.sql with JDBC batches and large commits instead 
+    //  of one auto-committed INSERT at a time.
+    @Bean(name = "dataSource", bootstrap = Bean.Bootstrap.BACKGROUND)
+    @Profile("bulk & !snapshot")
+    public DataSource bulkDataSource(
+            @Value("${db.fixture.batch-size:1000}") int batchSize,
+            @Value("${db.fixture.commit-interval:50000}") int commitInterval,
+            @Value("${db.fixture.threads:1}") int threads) {
+        EmbeddedDatabase dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.HSQL)
+            .generateUniqueName(true)   // contexts with different profiles may run side by side
+            .addScript("classpath:schema.sql") 
+            .build();
+        new BulkFixtureLoader(batchSize, commitInterval, threads)
+            .load(dataSource, new ClassPathResource("data.sql"));
+        return dataSource;
+    }
+
+    //  "snapshot" and "bulk" are two ways of filling the same database; refuse to guess
+    //  which one was meant.
+    @Bean(name = "dataSource")
+    @Profile("snapshot & bulk")
+    public DataSource conflictingDataSource() {
+        throw new IllegalStateException("Activate either the snapshot or the bulk profile, not both");
+    }
+
     @Bean
     public JdbcClient jdbcClient(DataSource dataSource) {
         return JdbcClient.create(dataSource);
     }    
 
+    //  For the JDBC batch API behind PurchaseDao.savePurchases(); JdbcClient has none.
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
     //  TODO-02: Add a @Bean named transactionManager of type PlatformTransactionManager.
     //  Use DataSourceTransactionManager as the implementation.
     //  Inject the DataSource bean defined above.
@@ -41,5 +102,43 @@ public class Config {
     public PlatformTransactionManager transactionManager(DataSource dataSource) {
         return new DataSourceTransactionManager(dataSource);
     }
-    
+
+    //  Opt-in parallel bootstrap.  With the "parallel" profile active, beans declared with 
+    //  bootstrap = BACKGROUND are created on this executor while the main thread carries 
+    //  on with beans that do not depend on them; a bean that does depend on one waits for 
+    //  it.  Without the profile there is no executor and every bean is created serially.
+    @Bean(name = ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME)
+    @Profile("parallel")
+    public ThreadPoolTaskExecutor bootstrapExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        executor.setThreadNamePrefix("bootstrap-");
+        executor.setDaemon(true);   // only used during refresh; must not keep a CLI alive
+        return executor;
+    }
+
+    //  Also only with the "parallel" profile: beans that inject a background bean get a 
+    //  lazy proxy instead of waiting for it.  Static, like any BeanFactoryPostProcessor @Bean.
+    @Bean
+    @Profile("parallel")
+    public static BackgroundBootstrap backgroundBootstrap() {
+        return new BackgroundBootstrap();
+    }
+
+    //  Opt-in lazy initialization.  With the "lazy" profile active, application beans are 
+    //  created on first use instead of during refresh, and each one's creation time is 
+    //  printed when that happens.  Static, like any BeanFactoryPostProcessor @Bean.
+    @Bean
+    @Profile("lazy")
+    public static LazyInitialization lazyInitialization() {
+        return new LazyInitialization();
+    }
+
+    //  Opt-in report of whether @ComponentScan used the compile-time index, with the
+    //  "component-index" profile.  Static, so it does not force early creation of Config itself.
+    @Bean
+    @Profile("component-index")
+    public static ComponentIndexReport componentIndexReport() {
+        return new ComponentIndexReport("com.example");
+    }
 }
@@ -0,0 +1,80 @@
+package com.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javax.sql.DataSource;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import com.example.dao.PurchaseDao;
+import com.example.dao.PurchaseDaoImpl;
+import com.example.service.PurchaseService;
+import com.example.service.PurchaseServiceImpl;
+import com.example.support.StartupProfiler;
+
+//  Registers the same beans as Config, but through supplier callbacks instead of 
+//  annotations.  There is no classpath scanning and no CGLIB subclass of a 
+//  @Configuration class.  @EnableTransactionManagement is replaced by building the 
+//  PurchaseService proxy directly; it still honors the @Transactional attributes 
+//  declared on PurchaseServiceImpl.
+public class FunctionalConfig implements ApplicationContextInitializer<GenericApplicationContext> {
+
+    public static GenericApplicationContext createContext() {
+        GenericApplicationContext spring = StartupProfiler.attachIfEnabled(new GenericApplicationContext());
+        new FunctionalConfig().initialize(spring);
+        spring.refresh();
+        return spring;
+    }
+
+    @Override
+    public void initialize(GenericApplicationContext spring) {
+        try {
+            spring.getEnvironment().getPropertySources().addLast(new ResourcePropertySource("classpath:app.properties"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        spring.registerBean("dataSource", DataSource.class, () -> new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)   // so it can run side by side with a Config context
+            .setType(EmbeddedDatabaseType.HSQL)
+            .addScript("classpath:schema.sql")
+            .addScript("classpath:data.sql")
+            .build(),
+            //  Same as @Bean: shut the embedded database down with the context.
+            bd -> ((AbstractBeanDefinition) bd).setDestroyMethodName(AbstractBeanDefinition.INFER_METHOD));
+        spring.registerBean("jdbcClient", JdbcClient.class, 
+            () -> JdbcClient.create(spring.getBean(DataSource.class)));
+        spring.registerBean("transactionManager", PlatformTransactionManager.class, 
+            () -> new DataSourceTransactionManager(spring.getBean(DataSource.class)));
+        spring.registerBean("jdbcTemplate", JdbcTemplate.class, 
+            () -> new JdbcTemplate(spring.getBean(DataSource.class)));
+        spring.registerBean("purchaseDao", PurchaseDao.class, () -> new PurchaseDaoImpl(
+            spring.getBean(JdbcClient.class), spring.getBean(JdbcTemplate.class),
+            spring.getEnvironment().getRequiredProperty("purchase.batch-size", int.class),
+            spring.getEnvironment().getRequiredProperty("purchase.commit-interval", int.class),
+            spring.getEnvironment().getRequiredProperty("purchase.fetch-size", int.class)));
+        spring.registerBean("purchaseService", PurchaseService.class, () -> transactional(
+            new PurchaseServiceImpl(spring.getBean(PurchaseDao.class)), 
+            spring.getBean(PlatformTransactionManager.class)));
+    }
+
+    private static PurchaseService transactional(PurchaseService target, TransactionManager transactionManager) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        return (PurchaseService) factory.getProxy();
+    }
+}
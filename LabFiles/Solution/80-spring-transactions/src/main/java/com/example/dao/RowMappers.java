@@ -0,0 +1,164 @@
+package com.example.dao;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.ClassUtils;
+
+//  A registry of row mappers that do the expensive work once per class instead of once
+//  per query like BeanPropertyRowMapper.  The first forType() call for a class introspects
+//  it and binds its no-arg constructor and setters to lambdas through LambdaMetafactory,
+//  so mapping a row calls them directly instead of through reflection.  The first row of
+//  a result set is matched against the columns (by label, ignoring case and underscores,
+//  as BeanPropertyRowMapper does) and the resulting column plan is cached per column
+//  list; every later row just reads column i and calls setter i.  Unknown columns are
+//  ignored.
+public final class RowMappers {
+
+    private static final Map<Class<?>, BeanMapping<?>> MAPPINGS = new ConcurrentHashMap<>();
+
+    private RowMappers() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> RowMapper<T> forType(Class<T> type) {
+        BeanMapping<T> mapping = (BeanMapping<T>) MAPPINGS.computeIfAbsent(type, BeanMapping::new);
+        return mapping.newRowMapper();
+    }
+
+    @FunctionalInterface
+    private interface ColumnReader {
+        Object read(ResultSet rs, int index) throws SQLException;
+    }
+
+    private record Property(BiConsumer<Object, Object> setter, ColumnReader reader, boolean primitive) {
+    }
+
+    //  One column of a plan: the result set index to read and the property to set.
+    private record Step(int index, Property property) {
+    }
+
+    private static final class BeanMapping<T> {
+
+        private final Supplier<T> constructor;
+        private final Map<String, Property> properties = new HashMap<>();
+        private final Map<List<String>, Step[]> plans = new ConcurrentHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        BeanMapping(Class<?> type) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                MethodHandle constructorHandle = lookup.findConstructor(type, MethodType.methodType(void.class));
+                this.constructor = (Supplier<T>) LambdaMetafactory.metafactory(lookup, "get",
+                        MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+                        constructorHandle, MethodType.methodType(type))
+                    .getTarget().invoke();
+                for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+                    if (descriptor.getWriteMethod() == null) {
+                        continue;
+                    }
+                    Class<?> propertyType = descriptor.getPropertyType();
+                    MethodHandle setterHandle = lookup.unreflect(descriptor.getWriteMethod());
+                    CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        setterHandle,
+                        MethodType.methodType(void.class, type, ClassUtils.resolvePrimitiveIfNecessary(propertyType)));
+                    Property property = new Property((BiConsumer<Object, Object>) site.getTarget().invoke(),
+                        reader(propertyType), propertyType.isPrimitive());
+                    String name = descriptor.getName();
+                    properties.put(name.toLowerCase(Locale.ROOT), property);
+                    properties.put(underscoreName(name), property);
+                }
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot build a row mapper for " + type.getName(), e);
+            }
+        }
+
+        RowMapper<T> newRowMapper() {
+            return new RowMapper<>() {
+
+                private Step[] plan;
+
+                @Override
+                public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+                    if (plan == null) {
+                        plan = plan(rs.getMetaData());
+                    }
+                    T bean = constructor.get();
+                    for (Step step : plan) {
+                        Object value = step.property().reader().read(rs, step.index());
+                        if (value != null || !step.property().primitive()) {
+                            step.property().setter().accept(bean, value);
+                        }
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private Step[] plan(ResultSetMetaData metaData) throws SQLException {
+            List<String> columns = new ArrayList<>();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                columns.add(JdbcUtils.lookupColumnName(metaData, i).toLowerCase(Locale.ROOT));
+            }
+            return plans.computeIfAbsent(columns, labels -> {
+                List<Step> steps = new ArrayList<>();
+                for (int i = 0; i < labels.size(); i++) {
+                    Property property = properties.get(labels.get(i).replace(" ", ""));
+                    if (property != null) {
+                        steps.add(new Step(i + 1, property));
+                    }
+                }
+                return steps.toArray(Step[]::new);
+            });
+        }
+
+        private static ColumnReader reader(Class<?> type) {
+            if (type == String.class) {
+                return ResultSet::getString;
+            }
+            if (type == int.class) {
+                return ResultSet::getInt;
+            }
+            if (type == long.class) {
+                return ResultSet::getLong;
+            }
+            if (type == Date.class || type == Timestamp.class) {
+                return ResultSet::getTimestamp;
+            }
+            return (rs, index) -> JdbcUtils.getResultSetValue(rs, index, type);
+        }
+
+        private static String underscoreName(String name) {
+            StringBuilder result = new StringBuilder();
+            for (char c : name.toCharArray()) {
+                if (Character.isUpperCase(c)) {
+                    result.append('_');
+                }
+                result.append(Character.toLowerCase(c));
+            }
+            return result.toString();
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.example.domain.Purchase;
+import com.example.support.BatchStats;
 
 public interface PurchaseService {
 	public void savePurchase(Purchase purchase);
+	public BatchStats savePurchases(Collection<Purchase> purchases);
 	public List<Purchase> findAllPurchases();
+	public Stream<Purchase> streamAllPurchases();
+	public List<Purchase> findPurchasesAfter(int lastId, int limit);
 	public Purchase findPurchase(int id);
 	public Purchase findPurchase(String name, Date Date);
 }
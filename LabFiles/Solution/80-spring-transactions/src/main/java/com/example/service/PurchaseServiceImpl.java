@@ -1,15 +1,17 @@
 package com.example.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.dao.PurchaseDao;
 import com.example.domain.Purchase;
+import com.example.support.BatchStats;
 
 @Service
 //	TODO-03: Add an annotation to this bean to make all methods transactional.
@@ -17,12 +19,31 @@ import com.example.domain.Purchase;
 @Transactional
 public class PurchaseServiceImpl implements PurchaseService {
 
-	@Autowired PurchaseDao purchaseDAO;
+	private final PurchaseDao purchaseDAO;
+
+	public PurchaseServiceImpl(PurchaseDao purchaseDAO) {
+		this.purchaseDAO = purchaseDAO;
+	}
 
 	public List<Purchase> findAllPurchases() {
 		return purchaseDAO.getAllPurchases();
 	}
 
+	//	The stream reads from an open cursor, so it has to be consumed (and closed) inside 
+	//	the caller's transaction; returning it from a transaction of its own would close 
+	//	the connection before the first row is read.
+	@Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+	public Stream<Purchase> streamAllPurchases() {
+		return purchaseDAO.streamAllPurchases();
+	}
+
+	//	One page of purchases in ID order.  Pass 0 for the first page, then the last ID of 
+	//	the previous page.
+	@Transactional(readOnly = true)
+	public List<Purchase> findPurchasesAfter(int lastId, int limit) {
+		return purchaseDAO.getPurchasesAfter(lastId, limit);
+	}
+
 	public Purchase findPurchase(int id) {
 		return purchaseDAO.getPurchase(id);
 	}
@@ -39,6 +60,13 @@ public class PurchaseServiceImpl implements PurchaseService {
 		purchaseDAO.savePurchase(purchase);
 	}
 
+	//	Runs outside of any transaction, so the DAO can commit every commit-interval rows 
+	//	rather than holding one transaction (and its undo log) open for the whole load.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public BatchStats savePurchases(Collection<Purchase> purchases) {
+		return purchaseDAO.savePurchases(purchases);
+	}
+
 	//  TODO-14: Organize imports, save your work.
 	//  Return to the previous test.  Run it again.  It should pass.
 }
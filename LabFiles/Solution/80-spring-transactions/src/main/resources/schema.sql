@@ -13,3 +13,12 @@ CREATE TABLE "PURCHASE" ("ID" INTEGER NOT NULL GENERATED ALWAYS AS IDENTITY (STA
 -- primary/unique
 ALTER TABLE "PURCHASE" ADD CONSTRAINT "SQL120325130144010" PRIMARY KEY ("ID");
 
+-- indexes
+-- getPurchase(name, date) looks up CUSTOMERNAME = ? and PURCHASEDATE = ?.  The same index 
+-- also lists one customer's purchases in date order without a sort.
+CREATE INDEX "IDX_PURCHASE_CUSTOMER_DATE" ON "PURCHASE" ("CUSTOMERNAME", "PURCHASEDATE");
+
+-- Keyset paging (WHERE ID > ? ORDER BY ID LIMIT ?) seeks into the primary key's index 
+-- and reads just one page of it, so page 10,000 costs the same as page 1.  No extra 
+-- index is needed as long as paging stays on ID.
+
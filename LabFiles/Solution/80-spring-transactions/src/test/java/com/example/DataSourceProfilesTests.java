@@ -0,0 +1,38 @@
+package com.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.example.service.PurchaseService;
+
+public class DataSourceProfilesTests {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "default", "snapshot", "bulk" })
+    public void eachProfileLoadsTheSameData(String profile) {
+        try (AnnotationConfigApplicationContext spring = context(profile)) {
+            assertThat(spring.getBean(PurchaseService.class).findPurchase(1).getCustomerName()).isEqualTo("Bruce");
+        }
+    }
+
+    @Test
+    public void snapshotAndBulkTogetherFailFast() {
+        assertThatExceptionOfType(BeanCreationException.class)
+            .isThrownBy(() -> context("snapshot", "bulk").close())
+            .withStackTraceContaining("either the snapshot or the bulk profile");
+    }
+
+    private static AnnotationConfigApplicationContext context(String... profiles) {
+        AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext();
+        spring.getEnvironment().setActiveProfiles(profiles);
+        spring.register(Config.class);
+        spring.refresh();
+        return spring;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.example.service.PurchaseService;
+
+@SpringJUnitConfig(Config.class)
+@ActiveProfiles({ "lazy", "component-index" })
+public class LazyInitializationTests {
+
+    @Autowired ConfigurableApplicationContext context;
+
+    @Test
+    public void applicationBeansAreCreatedOnFirstUse() {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+
+        assertThat(beanFactory.getBeanDefinition("purchaseServiceImpl").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("componentIndexReport").isLazyInit()).isFalse();
+        assertThat(beanFactory.containsSingleton("purchaseServiceImpl")).isFalse();
+
+        PurchaseService purchaseService = context.getBean(PurchaseService.class);
+
+        assertThat(beanFactory.containsSingleton("purchaseServiceImpl")).isTrue();
+        assertThat(purchaseService.findPurchase(1)).isNotNull();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.example.domain.Purchase;
+import com.example.service.PurchaseService;
+
+@SpringJUnitConfig(Config.class)
+@ActiveProfiles("parallel")
+public class ParallelBootstrapTests {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PurchaseService purchaseService;
+
+    @Test
+    public void dataSourceIsInjectedLazily() {
+        assertThat(AopUtils.isAopProxy(jdbcTemplate.getDataSource())).isTrue();
+    }
+
+    @Test
+    public void transactionsWorkThroughTheLazyDataSource() {
+        Purchase p = new Purchase("Parallel", new Date(), "thread pool");
+        purchaseService.savePurchase(p);
+
+        assertThat(purchaseService.findPurchase(p.getCustomerName(), p.getPurchaseDate()).getProduct())
+            .isEqualTo(p.getProduct());
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.dao;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -64,4 +66,28 @@ public class PurchaseDaoImplTests {
         assertThat(newPurchase.getProduct()).isEqualTo(p.getProduct());
     }
 
+    @Test
+    public void	getPurchasesAfter() {
+        List<Integer> all = dao.getAllPurchases().stream().map(Purchase::getId).sorted().toList();
+
+        //  The seeded purchases come back in ID order, two to a page:
+        assertThat(dao.getPurchasesAfter(0, 2)).extracting(Purchase::getId).containsExactly(1, 2);
+        assertThat(dao.getPurchasesAfter(1, 2)).extracting(Purchase::getId).containsExactly(2, 3);
+
+        //  Walk every page, each one starting after the last ID of the previous one:
+        List<Integer> paged = new ArrayList<>();
+        List<Purchase> page = dao.getPurchasesAfter(0, 2);
+        while (!page.isEmpty()) {
+            assertThat(page.size()).isLessThanOrEqualTo(2);
+            page.forEach(p -> paged.add(p.getId()));
+            page = dao.getPurchasesAfter(paged.get(paged.size() - 1), 2);
+        }
+
+        assertThat(paged).isEqualTo(all);
+    }
+
+    @Test
+    public void	getPurchasesAfterNeedsAPositiveLimit() {
+        assertThatIllegalArgumentException().isThrownBy(() -> dao.getPurchasesAfter(0, 0));
+    }
 }
@@ -0,0 +1,38 @@
+package com.example.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.example.Config;
+import com.example.support.QueryPlans;
+
+//  The lookups and paged listing must be served by an index; only the deliberate 
+//  whole-table reads, like getAllPurchases(), may scan.
+@SpringJUnitConfig({ Config.class, QueryPlans.class })
+public class QueryPlanTests {
+
+    @Autowired PurchaseDao dao;
+    @Autowired QueryPlans plans;
+
+    @Test
+    public void	getPurchaseByIdUsesPrimaryKey() {
+        plans.assertNoFullScan(() -> dao.getPurchase(2));
+    }
+
+    @Test
+    public void	getPurchaseByNameAndDateUsesIndex() {
+        plans.assertNoFullScan(() -> dao.getPurchase("Paul", Timestamp.valueOf("2010-04-30 00:00:00")));
+        assertThat(plans.explain("SELECT * FROM PURCHASE WHERE CUSTOMERNAME = ? and PURCHASEDATE = ?"))
+            .contains("IDX_PURCHASE_CUSTOMER_DATE");
+    }
+
+    @Test
+    public void	getPurchasesAfterUsesPrimaryKey() {
+        plans.assertNoFullScan(() -> dao.getPurchasesAfter(1, 10));
+    }
+}
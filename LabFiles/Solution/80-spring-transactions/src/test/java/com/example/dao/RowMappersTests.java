@@ -0,0 +1,46 @@
+package com.example.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.example.Config;
+import com.example.domain.Purchase;
+
+@SpringJUnitConfig(Config.class)
+public class RowMappersTests {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void mapsLikeBeanPropertyRowMapper() {
+        String sql = "SELECT * FROM PURCHASE ORDER BY ID";
+        List<Purchase> expected = jdbcTemplate.query(sql, new BeanPropertyRowMapper<>(Purchase.class));
+
+        assertThat(expected).isNotEmpty();
+        assertThat(jdbcTemplate.query(sql, RowMappers.forType(Purchase.class)))
+            .extracting(Purchase::getId, Purchase::getCustomerName, Purchase::getProduct, Purchase::getPurchaseDate)
+            .containsExactlyElementsOf(expected.stream()
+                .map(p -> tuple(p.getId(), p.getCustomerName(), p.getProduct(), p.getPurchaseDate()))
+                .toList());
+    }
+
+    @Test
+    public void matchesAliasedColumnsAndIgnoresUnknownOnes() {
+        Purchase p = jdbcTemplate.queryForObject(
+            "SELECT ID, CUSTOMERNAME AS CUSTOMER_NAME, 'x' AS UNMAPPED FROM PURCHASE WHERE ID = 2",
+            RowMappers.forType(Purchase.class));
+
+        assertThat(p.getId()).isEqualTo(2);
+        assertThat(p.getCustomerName()).isEqualTo("Paul");
+        assertThat(p.getProduct()).isNull();
+        assertThat(p.getPurchaseDate()).isNull();
+    }
+}
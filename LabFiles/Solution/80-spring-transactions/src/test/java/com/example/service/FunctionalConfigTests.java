@@ -0,0 +1,56 @@
+package com.example.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import com.example.FunctionalConfig;
+import com.example.domain.Purchase;
+
+public class FunctionalConfigTests {
+
+    GenericApplicationContext spring;
+    PurchaseService purchaseService;
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setup() {
+        spring = FunctionalConfig.createContext();
+        purchaseService = spring.getBean(PurchaseService.class);
+        transactionManager = spring.getBean(PlatformTransactionManager.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        spring.close();
+    }
+
+    @Test
+    public void testServiceIsTransactionalProxy() {
+        assertThat(AopUtils.isAopProxy(purchaseService)).isTrue();
+        assertThat(purchaseService.findAllPurchases()).isNotEmpty();
+    }
+
+    @Test
+    public void testSavePurchaseRequiresNewTransaction() {
+        TransactionStatus status = 
+            transactionManager.getTransaction(
+                new DefaultTransactionDefinition());
+        Purchase p = new Purchase("Praveen", new Date(), "lava lamp");
+        purchaseService.savePurchase(p);
+        transactionManager.rollback(status);
+
+        //  Saved in its own transaction, so the outer rollback does not undo it:
+        Purchase retrievedPurchase = purchaseService.findPurchase(p.getCustomerName(), p.getPurchaseDate());
+        assertThat(retrievedPurchase.getProduct()).isEqualTo(p.getProduct());
+    }
+}
@@ -1,21 +1,28 @@
 package com.example.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.IllegalTransactionStateException;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import com.example.Config;
 import com.example.domain.Purchase;
+import com.example.support.BatchStats;
 
 //	TODO-04: Annotate this class to make it a Spring test class.
 //  Include the configuration class you wish to load.
@@ -31,6 +38,8 @@ public class PurchaseServiceImplTests {
     @Autowired 
     PlatformTransactionManager transactionManager;
 
+    @Autowired JdbcTemplate jdbcTemplate;
+
     @Test
     //@Disabled
     public void testSavePurchase() {
@@ -89,5 +98,44 @@ public class PurchaseServiceImplTests {
         assertThat(retrievedPurchase.getProduct()).isEqualTo(p.getProduct());
     }
 
+    @Test
+    public void savePurchasesCommitsOnItsOwn() {
+        List<Purchase> purchases = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            purchases.add(new Purchase("Batch", new Date(), "Batch Product " + i));
+        }
+        int before = purchaseService.findAllPurchases().size();
 
+        //  savePurchases() does not take part in the caller's transaction, 
+        //  so rolling that back leaves the committed rows in place:
+        TransactionStatus status = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        try {
+            BatchStats stats = purchaseService.savePurchases(purchases);
+            transactionManager.rollback(status);
+
+            assertThat(stats.commits()).isEqualTo(1);
+            assertThat(purchaseService.findAllPurchases()).hasSize(before + purchases.size());
+        } finally {
+            if (!status.isCompleted()) {
+                transactionManager.rollback(status);
+            }
+            //  The rows are committed, so remove them before the next test sees them:
+            jdbcTemplate.update("DELETE FROM PURCHASE WHERE CUSTOMERNAME = ?", "Batch");
+        }
+    }
+
+    @Test
+    public void streamAllPurchasesInsideATransaction() {
+        List<Purchase> all = purchaseService.findAllPurchases();
+
+        TransactionStatus status = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        try (Stream<Purchase> purchases = purchaseService.streamAllPurchases()) {
+            assertThat(purchases.map(Purchase::getId)).containsExactlyElementsOf(all.stream().map(Purchase::getId).toList());
+        } finally {
+            transactionManager.rollback(status);
+        }
+
+        assertThatExceptionOfType(IllegalTransactionStateException.class)
+            .isThrownBy(() -> purchaseService.streamAllPurchases());
+    }
 }
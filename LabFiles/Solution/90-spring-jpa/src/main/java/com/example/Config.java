@@ -1,48 +1,119 @@
 package com.example;
 
+import java.nio.file.Path;
 import java.util.Properties;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypesScanner;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import jakarta.persistence.EntityManagerFactory;
 
+import com.example.support.BackgroundBootstrap;
+import com.example.support.BulkFixtureLoader;
+import com.example.support.ComponentIndexReport;
+import com.example.support.HsqldbSnapshot;
+import com.example.support.LazyInitialization;
+
 
 @Configuration   
 @PropertySource("classpath:app.properties")
 @ComponentScan("com.example")
 public class Config {
 
-    @Bean
+    //  Runs the scripts in the background when the "parallel" profile supplies a bootstrap 
+    //  executor.  Beans that use it then get a lazy reference, so they need not wait for it.
+    @Bean(bootstrap = Bean.Bootstrap.BACKGROUND)
+    @Profile("!snapshot & !bulk")
     public DataSource dataSource() {
         return new EmbeddedDatabaseBuilder()
             .setType(EmbeddedDatabaseType.HSQL)
+            .generateUniqueName(true)   // contexts with different profiles may run side by side
             .addScript("classpath:schema.sql") 
             .addScript("classpath:data.sql")   
             .build();
     }
 
+    //  With the "snapshot" profile, start from a copy of a file-backed database that was 
+    //  built once from the same scripts, instead of running them again.
+    @Bean(name = "dataSource", bootstrap = Bean.Bootstrap.BACKGROUND)
+    @Profile("snapshot & !bulk")
+    public DataSource snapshotDataSource(
+            @Value("${db.snapshot.dir:${java.io.tmpdir}/purchase-db-snapshots}") String snapshotDir) {
+        return HsqldbSnapshot.open(Path.of(snapshotDir), 
+            new ClassPathResource("schema.sql"), new ClassPathResource("data.sql"));
+    }
+
+    //  With the "bulk" profile, load data.sql with JDBC batches and large commits instead 
+    //  of one auto-committed INSERT at a time.
+    @Bean(name = "dataSource", bootstrap = Bean.Bootstrap.BACKGROUND)
+    @Profile("bulk & !snapshot")
+    public DataSource bulkDataSource(
+            @Value("${db.fixture.batch-size:1000}") int batchSize,
+            @Value("${db.fixture.commit-interval:50000}") int commitInterval,
+            @Value("${db.fixture.threads:1}") int threads) {
+        EmbeddedDatabase dataSource = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.HSQL)
+            .generateUniqueName(true)   // contexts with different profiles may run side by side
+            .addScript("classpath:schema.sql") 
+            .build();
+        new BulkFixtureLoader(batchSize, commitInterval, threads)
+            .load(dataSource, new ClassPathResource("data.sql"));
+        return dataSource;
+    }
+
+    //  "snapshot" and "bulk" are two ways of filling the same database; refuse to guess
+    //  which one was meant.
+    @Bean(name = "dataSource")
+    @Profile("snapshot & bulk")
+    public DataSource conflictingDataSource() {
+        throw new IllegalStateException("Activate either the snapshot or the bulk profile, not both");
+    }
+
+    //  The @Entity classes under com.example.domain, as a bean.  AOT processing records 
+    //  the result, so the packaged app does not scan for entities at startup.
+    @Bean
+    public PersistenceManagedTypes persistenceManagedTypes(ResourceLoader resourceLoader) {
+        return new PersistenceManagedTypesScanner(resourceLoader).scan("com.example.domain");
+    }
+
     // TODO-02: Examine this LocalContainerEntityManagerFactoryBean.
     // 1) It is a Specialized Spring FactoryBean that creates JPA EntityManagerFactory instances.
     // 2) Setting the datasources makes it aware of the database dialect (e.g. Oracle, MySQL, etc.)
     // 3) We tell it the location of our @Entity classes.
     // 4) We set the JPA vendor adapter to Hibernate.
     // 5) Setting Hibernate specific properties to show well formatted SQL - very useful when debugging.
+    // 6) With a bootstrap executor ("parallel" profile), Hibernate boots on it and callers
+    //    get an EntityManagerFactory proxy straight away.
+    // 7) Flushed INSERTs and UPDATEs go to the database in JDBC batches of this size.
     @Bean
-    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource ds) {
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource ds, PersistenceManagedTypes managedTypes,
+            @Qualifier(ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME) ObjectProvider<AsyncTaskExecutor> bootstrapExecutor,
+            @Value("${purchase.batch-size}") String batchSize) {
         var emfb = new	LocalContainerEntityManagerFactoryBean();	    // (1)
         emfb.setDataSource(ds);									        // (2)
-        emfb.setPackagesToScan("com.example.domain"); // (3)
+        emfb.setManagedTypes(managedTypes);                             // (3)
 
         var adapter = new HibernateJpaVendorAdapter();				    // (4)
         emfb.setJpaVendorAdapter(adapter);
@@ -51,8 +122,11 @@ public class Config {
         props.setProperty("hibernate.show_sql", "true"); 
         props.setProperty("hibernate.format_sql", "true"); 
         props.setProperty("hibernate.use_sql_comments", "true"); 
+        props.setProperty("hibernate.jdbc.batch_size", batchSize);     // (7)
+        props.setProperty("hibernate.order_inserts", "true"); 
 
         emfb.setJpaProperties(props);
+        bootstrapExecutor.ifAvailable(emfb::setBootstrapExecutor);     // (6)
         return emfb;
     }  
 
@@ -63,4 +137,43 @@ public class Config {
     public PlatformTransactionManager transactionManager(EntityManagerFactory emf) {
         return new JpaTransactionManager(emf);  
     }
+
+    //  Opt-in parallel bootstrap.  With the "parallel" profile active, beans declared with 
+    //  bootstrap = BACKGROUND are created on this executor while the main thread carries 
+    //  on with beans that do not depend on them; a bean that does depend on one waits for 
+    //  it.  Without the profile there is no executor and every bean is created serially.
+    @Bean(name = ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME)
+    @Profile("parallel")
+    public ThreadPoolTaskExecutor bootstrapExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        executor.setThreadNamePrefix("bootstrap-");
+        executor.setDaemon(true);   // only used during refresh; must not keep a CLI alive
+        return executor;
+    }
+
+    //  Also only with the "parallel" profile: beans that inject a background bean get a 
+    //  lazy proxy instead of waiting for it.  Static, like any BeanFactoryPostProcessor @Bean.
+    @Bean
+    @Profile("parallel")
+    public static BackgroundBootstrap backgroundBootstrap() {
+        return new BackgroundBootstrap();
+    }
+
+    //  Opt-in lazy initialization.  With the "lazy" profile active, application beans are 
+    //  created on first use instead of during refresh, and each one's creation time is 
+    //  printed when that happens.  Static, like any BeanFactoryPostProcessor @Bean.
+    @Bean
+    @Profile("lazy")
+    public static LazyInitialization lazyInitialization() {
+        return new LazyInitialization();
+    }
+
+    //  Opt-in report of whether @ComponentScan used the compile-time index, with the
+    //  "component-index" profile.  Static, so it does not force early creation of Config itself.
+    @Bean
+    @Profile("component-index")
+    public static ComponentIndexReport componentIndexReport() {
+        return new ComponentIndexReport("com.example");
+    }
 }
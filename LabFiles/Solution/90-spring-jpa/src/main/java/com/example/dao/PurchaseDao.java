@@ -1,12 +1,18 @@
 package com.example.dao;
 
 import com.example.domain.Purchase;
+import com.example.support.BatchStats;
+import java.util.Collection;
 import java.util.List;
 import java.util.Date;
+import java.util.stream.Stream;
 
 public interface PurchaseDao {
     List<Purchase> getAllPurchases();
+    Stream<Purchase> streamAllPurchases();
+    List<Purchase> getPurchasesAfter(int lastId, int limit);
     Purchase getPurchase(int id);
     Purchase getPurchase(String name, Date date);
 	void savePurchase(Purchase purchase);
+	BatchStats savePurchases(Collection<Purchase> purchases);
 }
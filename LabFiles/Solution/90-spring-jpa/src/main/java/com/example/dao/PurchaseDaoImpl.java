@@ -1,11 +1,21 @@
 package com.example.dao;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.domain.Purchase;
+import com.example.support.BatchStats;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -20,6 +30,26 @@ public class PurchaseDaoImpl implements PurchaseDao {
     @PersistenceContext
     EntityManager em;
 
+    private final TransactionTemplate chunkTransaction;
+    private final int batchSize;
+    private final int commitInterval;
+    private final int fetchSize;
+
+    public PurchaseDaoImpl(PlatformTransactionManager transactionManager,
+            @Value("${purchase.batch-size}") int batchSize,
+            @Value("${purchase.commit-interval}") int commitInterval,
+            @Value("${purchase.fetch-size}") int fetchSize) {
+        if (batchSize < 1 || commitInterval < 1) {
+            throw new IllegalArgumentException("purchase.batch-size and purchase.commit-interval must be positive, not "
+                + batchSize + " and " + commitInterval);
+        }
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.commitInterval = commitInterval;
+        this.fetchSize = fetchSize;
+    }
+
     @Override
     public List<Purchase> getAllPurchases() {
         String jpql = "SELECT p FROM Purchase p";
@@ -33,6 +63,40 @@ public class PurchaseDaoImpl implements PurchaseDao {
         //return null;
     }
 
+    //  Reads through a cursor, fetchSize rows per round trip, and detaches each Purchase 
+    //  once it is handed out, so the persistence context does not grow with the table.  
+    //  Customers are fetched in the same query and stay managed; there are far fewer of 
+    //  them.  Needs a surrounding transaction: outside of one the shared EntityManager 
+    //  could not detach anything.  Close the stream when done.
+    @Override
+    public Stream<Purchase> streamAllPurchases() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalTransactionStateException("streamAllPurchases() must run inside a transaction");
+        }
+        String jpql = "SELECT p FROM Purchase p JOIN FETCH p.customer";
+        return em
+            .createQuery(jpql, Purchase.class)
+            .setHint("org.hibernate.fetchSize", fetchSize)
+            .setHint("org.hibernate.readOnly", true)
+            .getResultStream()
+            .peek(em::detach);
+    }
+
+    //  Keyset paging: seeks past lastId on the primary key instead of skipping rows with 
+    //  setFirstResult(), so every page costs the same.
+    @Override
+    public List<Purchase> getPurchasesAfter(int lastId, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive, not " + limit);
+        }
+        String jpql = "SELECT p FROM Purchase p JOIN FETCH p.customer WHERE p.id > :lastId ORDER BY p.id";
+        return em
+            .createQuery(jpql, Purchase.class)
+            .setParameter("lastId", lastId)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
     @Override
     public Purchase getPurchase(int id) {
         //  TODO-09: Use the EntityManager to find a single Purchase by its id.
@@ -44,7 +108,7 @@ public class PurchaseDaoImpl implements PurchaseDao {
 
     @Override
     public Purchase getPurchase(String name, Date date) {
-        String jpql = "SELECT p FROM Purchase p WHERE p.customerName = :name AND p.purchaseDate = :date";
+        String jpql = "SELECT p FROM Purchase p WHERE p.customer.name = :name AND p.purchaseDate = :date";
         //  TODO-10: Use the EntityManager to create a query to select a single purchase.
         //  Use the JPQL string above to create the query.
         //  Notice that the query has two parameters: :name and :date.
@@ -71,4 +135,34 @@ public class PurchaseDaoImpl implements PurchaseDao {
         }
     }
 
+    //  Persists in transactions of commitInterval rows, each a new one of its own: a caller's 
+    //  transaction is suspended meanwhile, so clearing the persistence context never detaches 
+    //  the caller's entities and the saved rows stay committed whatever the caller does next.  
+    //  The persistence context is flushed and cleared every batchSize rows, so it never holds 
+    //  more than one batch of entities.  Hibernate groups the flushed INSERTs into JDBC batches 
+    //  (hibernate.jdbc.batch_size) only for ids it can assign itself; with 
+    //  GenerationType.IDENTITY, as Purchase uses, each INSERT still runs on its own to 
+    //  return the generated id.  Switch to a SEQUENCE id to get real insert batching.
+    @Override
+    public BatchStats savePurchases(Collection<Purchase> purchases) {
+        long start = System.nanoTime();
+        int commits = 0;
+        Iterator<Purchase> remaining = purchases.iterator();
+        while (remaining.hasNext()) {
+            chunkTransaction.executeWithoutResult(status -> {
+                for (int rows = 1; remaining.hasNext() && rows <= commitInterval; rows++) {
+                    em.persist(remaining.next());
+                    if (rows % batchSize == 0) {
+                        em.flush();
+                        em.clear();
+                    }
+                }
+                em.flush();
+                em.clear();
+            });
+            commits++;
+        }
+        return new BatchStats(purchases.size(), commits, System.nanoTime() - start);
+    }
+
 }
@@ -1,13 +1,16 @@
 package com.example.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.example.dao.PurchaseDao;
 import com.example.domain.Purchase;
+import com.example.support.BatchStats;
 
 // TODO-12: Annotate to this class to define it as a Spring bean.
 // Select the most descriptive stereotype annotation.
@@ -24,10 +27,24 @@ public class PurchaseServiceImpl implements PurchaseService {
 		purchaseDao.savePurchase(purchase);
 	}
 
+	public BatchStats savePurchases(Collection<Purchase> purchases) {
+		return purchaseDao.savePurchases(purchases);
+	}
+
 	public List<Purchase> findAllPurchases() {
 		return purchaseDao.getAllPurchases();
 	}
 
+	public Stream<Purchase> streamAllPurchases() {
+		return purchaseDao.streamAllPurchases();
+	}
+
+	//	One page of purchases in ID order.  Pass 0 for the first page, then the last ID of 
+	//	the previous page.
+	public List<Purchase> findPurchasesAfter(int lastId, int limit) {
+		return purchaseDao.getPurchasesAfter(lastId, limit);
+	}
+
 	public Purchase findPurchase(int id) {
 		return purchaseDao.getPurchase(id);
 	}
@@ -14,3 +14,15 @@ CREATE TABLE "CUSTOMERS" ("ID" INTEGER NOT NULL GENERATED ALWAYS AS IDENTITY (ST
 ALTER TABLE "PURCHASES" ADD CONSTRAINT "SQL120325130144010" PRIMARY KEY ("ID");
 ALTER TABLE "CUSTOMERS" ADD CONSTRAINT "SQL120325130144011" PRIMARY KEY ("ID");
 
+-- indexes
+-- A purchase is looked up by customer name and date: the name resolves to a customer 
+-- through the first index, then (CUSTOMER_ID, PURCHASE_DATE) finds the purchase.  The 
+-- second index also serves joins from a customer to its purchases and lists them in 
+-- date order without a sort.
+CREATE INDEX "IDX_CUSTOMERS_NAME" ON "CUSTOMERS" ("CUSTOMER_NAME");
+CREATE INDEX "IDX_PURCHASES_CUSTOMER_DATE" ON "PURCHASES" ("CUSTOMER_ID", "PURCHASE_DATE");
+
+-- Keyset paging (WHERE ID > ? ORDER BY ID LIMIT ?) seeks into the primary key's index 
+-- and reads just one page of it, so page 10,000 costs the same as page 1.  No extra 
+-- index is needed as long as paging stays on ID.
+
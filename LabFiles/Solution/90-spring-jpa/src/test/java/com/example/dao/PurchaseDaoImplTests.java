@@ -2,19 +2,26 @@ package com.example.dao;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.Config;
 import com.example.domain.Customer;
 import com.example.domain.Purchase;
+import com.example.support.BatchStats;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -33,6 +40,8 @@ public class PurchaseDaoImplTests {
     @Autowired 
     PurchaseDao repo;
 
+    @Autowired PlatformTransactionManager transactionManager;
+
 
     //  TODO-17: Examine the test logic in the following method.
     //  It retrieves all purchases, then asserts that there are multiple purchases.
@@ -108,5 +117,81 @@ public class PurchaseDaoImplTests {
         assertEquals(p.getPurchaseDate(), purchase.getPurchaseDate());
     }
 
+    @Test
+    public void saveManyPurchases() {
+        Customer c = em.find(Customer.class, 1);
+        int before = repo.getAllPurchases().size();
+        List<Purchase> purchases = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            Purchase p = new Purchase();
+            p.setCustomer(c);
+            p.setProduct("Batch Product " + i);
+            p.setPurchaseDate(new Date());
+            purchases.add(p);
+        }
+
+        try {
+            BatchStats stats = repo.savePurchases(purchases);
+
+            assertThat(stats.rows()).isEqualTo(purchases.size());
+            assertThat(stats.commits()).isEqualTo(1);
+            assertThat(repo.getAllPurchases()).hasSize(before + purchases.size());
+            //  The saves ran in transactions of their own, so this test's entities stay managed:
+            assertThat(em.contains(c)).isTrue();
+            assertThat(purchases).allSatisfy(p -> assertThat(p.getId()).isPositive());
+        } finally {
+            //  Those transactions committed, so rolling back this test's one would leave the 
+            //  rows for later tests; remove them in a transaction of their own as well:
+            TransactionTemplate cleanup = new TransactionTemplate(transactionManager);
+            cleanup.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            cleanup.executeWithoutResult(status -> em
+                .createQuery("DELETE FROM Purchase p WHERE p.product LIKE 'Batch Product %'")
+                .executeUpdate());
+        }
+    }
+
+    @Test
+    public void batchSizesMustBePositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new PurchaseDaoImpl(transactionManager, 0, 10, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> new PurchaseDaoImpl(transactionManager, 10, 0, 10));
+    }
+
+    @Test
+    public void streamAllPurchases() {
+        List<Purchase> streamed;
+        try (Stream<Purchase> purchases = repo.streamAllPurchases()) {
+            streamed = purchases.toList();
+        }
+
+        assertThat(streamed).hasSize(repo.getAllPurchases().size());
+        assertThat(streamed).noneMatch(em::contains);
+        assertThat(streamed.get(0).getCustomer().getName()).isEqualTo("Bruce");
+    }
+
+    @Test
+    public void	getPurchasesAfter() {
+        List<Integer> all = repo.getAllPurchases().stream().map(Purchase::getId).sorted().toList();
+
+        //  The seeded purchases come back in ID order, two to a page:
+        assertThat(repo.getPurchasesAfter(0, 2)).extracting(Purchase::getId).containsExactly(1, 2);
+        assertThat(repo.getPurchasesAfter(1, 2)).extracting(Purchase::getId).containsExactly(2, 3);
+
+        //  Walk every page, each one starting after the last ID of the previous one:
+        List<Integer> paged = new ArrayList<>();
+        List<Purchase> page = repo.getPurchasesAfter(0, 2);
+        while (!page.isEmpty()) {
+            assertThat(page.size()).isLessThanOrEqualTo(2);
+            page.forEach(p -> paged.add(p.getId()));
+            page = repo.getPurchasesAfter(paged.get(paged.size() - 1), 2);
+        }
+
+        assertThat(paged).isEqualTo(all);
+    }
+
+    @Test
+    public void	getPurchasesAfterNeedsAPositiveLimit() {
+        assertThatIllegalArgumentException().isThrownBy(() -> repo.getPurchasesAfter(0, 0));
+    }
+
     //  TODO-20: Organize all imports, save all work.  Run this test, it should pass
 }
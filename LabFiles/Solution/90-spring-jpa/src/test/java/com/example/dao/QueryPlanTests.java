@@ -0,0 +1,41 @@
+package com.example.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.example.Config;
+import com.example.domain.Purchase;
+import com.example.support.QueryPlans;
+
+//  The lookups and paged listing must be served by an index; only the deliberate 
+//  whole-table reads, like getAllPurchases(), may scan.  The plans are those of the 
+//  SQL Hibernate generates, as it reaches the DataSource.
+@SpringJUnitConfig({ Config.class, QueryPlans.class })
+public class QueryPlanTests {
+
+    @Autowired PurchaseDao dao;
+    @Autowired QueryPlans plans;
+
+    @Test
+    public void	getPurchaseByIdUsesPrimaryKey() {
+        plans.assertNoFullScan(() -> dao.getPurchase(2));
+    }
+
+    @Test
+    public void	getPurchaseByNameAndDateUsesIndexes() {
+        plans.assertNoFullScan(() -> {
+            Purchase p = dao.getPurchase("Paul", Timestamp.valueOf("2010-04-30 00:00:00"));
+            assertThat(p.getProduct()).isEqualTo("Football");
+        });
+    }
+
+    @Test
+    public void	getPurchasesAfterUsesPrimaryKey() {
+        plans.assertNoFullScan(() -> dao.getPurchasesAfter(1, 10));
+    }
+}
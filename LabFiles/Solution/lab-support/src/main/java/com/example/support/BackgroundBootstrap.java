@@ -0,0 +1,44 @@
+package com.example.support;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.annotation.ContextAnnotationAutowireCandidateResolver;
+
+//  Companion to a bootstrap executor.  With an executor, beans declared with 
+//  @Bean(bootstrap = BACKGROUND) are created on it, and a mainline bean that injects one 
+//  directly would stall the main thread until it is ready.  Registered next to the 
+//  executor, this resolves every injection point that can receive a background bean to a 
+//  lazy proxy, as if it were marked @Lazy.  Contexts without it inject the bean itself, 
+//  with no proxy in front of every call.
+public class BackgroundBootstrap implements BeanFactoryPostProcessor {
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        ((DefaultListableBeanFactory) beanFactory).setAutowireCandidateResolver(new LazyBackgroundResolver());
+    }
+
+    private static class LazyBackgroundResolver extends ContextAnnotationAutowireCandidateResolver {
+
+        @Override
+        protected boolean isLazy(DependencyDescriptor descriptor) {
+            return super.isLazy(descriptor) || injectsBackgroundBean(descriptor);
+        }
+
+        private boolean injectsBackgroundBean(DependencyDescriptor descriptor) {
+            ConfigurableListableBeanFactory beanFactory = (ConfigurableListableBeanFactory) getBeanFactory();
+            for (String name : beanFactory.getBeanNamesForType(descriptor.getDependencyType(), true, false)) {
+                //  Singletons registered as objects, e.g. the import registry, have no definition.
+                if (beanFactory.containsBeanDefinition(name)
+                        && beanFactory.getMergedBeanDefinition(name) instanceof AbstractBeanDefinition definition
+                        && definition.isBackgroundInit()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
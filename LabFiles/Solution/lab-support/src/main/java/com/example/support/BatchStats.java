@@ -0,0 +1,22 @@
+package com.example.support;
+
+import java.util.Locale;
+
+//  What a batched save did: rows written, transactions committed, and the time it took.  
+//  Saving reports nothing by itself; callers print or assert on this instead.
+public record BatchStats(int rows, int commits, long nanos) {
+
+    public double millis() {
+        return nanos / 1e6;
+    }
+
+    public double rowsPerSecond() {
+        return nanos == 0 ? 0 : rows / (nanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%,d rows in %.1f ms, %d commit(s) (%,.0f rows/s)",
+            rows, millis(), commits, rowsPerSecond());
+    }
+}
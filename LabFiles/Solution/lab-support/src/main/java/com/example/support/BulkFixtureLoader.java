@@ -0,0 +1,322 @@
+package com.example.support;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.StringUtils;
+
+//  Loads large seed files much faster than ResourceDatabasePopulator, which runs every
+//  INSERT as its own auto-committed statement.  Rows are bound to one PreparedStatement
+//  per table and column list, sent in JDBC batches and committed every commitInterval
+//  rows.  Values are read as text and bound with the SQL type the driver reports for each
+//  parameter, so it converts them as it would the literal.  Two fixture formats are read, both streamed so the file is never held in memory:
+//    *.sql  INSERT INTO <table> (<columns>) VALUES (...)[, (...)]; as written by data.sql
+//    *.csv  one table per file, named after the file; the first line lists the columns
+//  With threads > 1 each fixture is loaded on its own thread and connection, so splitting
+//  a seed into one CSV per table loads the tables in parallel.
+public final class BulkFixtureLoader {
+
+    private static final Pattern INSERT = Pattern.compile(
+        "(?is)\\s*insert\\s+into\\s+(\\S+)\\s*\\(([^)]*)\\)\\s*values\\s*(\\(.*\\))\\s*");
+
+    private final int batchSize;
+    private final int commitInterval;
+    private final int threads;
+
+    public BulkFixtureLoader(int batchSize, int commitInterval, int threads) {
+        if (batchSize < 1 || commitInterval < 1 || threads < 1) {
+            throw new IllegalArgumentException("batchSize, commitInterval and threads must be positive");
+        }
+        this.batchSize = batchSize;
+        this.commitInterval = commitInterval;
+        this.threads = threads;
+    }
+
+    public long load(DataSource dataSource, Resource... fixtures) {
+        long start = System.nanoTime();
+        long rows = 0;
+        if (threads == 1 || fixtures.length == 1) {
+            for (Resource fixture : fixtures) {
+                rows += load(dataSource, fixture);
+            }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, fixtures.length));
+            try {
+                List<Future<Long>> loads = new ArrayList<>();
+                for (Resource fixture : fixtures) {
+                    loads.add(executor.submit(() -> load(dataSource, fixture)));
+                }
+                for (Future<Long> load : loads) {
+                    rows += load.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while loading fixtures", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Loaded %,d rows from %d fixture(s) in %.1f ms (%,.0f rows/s)%n",
+            rows, fixtures.length, seconds * 1000, rows / seconds);
+        return rows;
+    }
+
+    private long load(DataSource dataSource, Resource fixture) {
+        String name = fixture.getFilename();
+        try (Connection connection = dataSource.getConnection();
+                Reader reader = new BufferedReader(
+                    new InputStreamReader(fixture.getInputStream(), StandardCharsets.UTF_8))) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Batch batch = new Batch(connection)) {
+                if (name != null && name.toLowerCase(Locale.ROOT).endsWith(".csv")) {
+                    loadCsv(reader, StringUtils.stripFilenameExtension(name), batch);
+                } else {
+                    loadInserts(reader, fixture, batch);
+                }
+                batch.flush();
+                connection.commit();
+                return batch.rows;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not load fixture " + fixture, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read fixture " + fixture, e);
+        }
+    }
+
+    private void loadInserts(Reader reader, Resource fixture, Batch batch) throws IOException, SQLException {
+        for (String statement; (statement = nextStatement(reader)) != null; ) {
+            if (statement.isBlank()) {
+                continue;
+            }
+            Matcher insert = INSERT.matcher(statement);
+            if (!insert.matches()) {
+                throw new IllegalArgumentException(
+                    "Only INSERT ... VALUES statements can be bulk loaded, " + fixture + " has: " + statement.trim());
+            }
+            String sql = insertSql(insert.group(1), insert.group(2).split(","));
+            List<Object> row = new ArrayList<>();
+            String tuples = insert.group(3);
+            int depth = 0;
+            for (int i = 0; i < tuples.length(); i++) {
+                char c = tuples.charAt(i);
+                if (c == '\'') {
+                    StringBuilder value = new StringBuilder();
+                    for (i++; i < tuples.length(); i++) {
+                        if (tuples.charAt(i) == '\'') {
+                            if (i + 1 < tuples.length() && tuples.charAt(i + 1) == '\'') {
+                                i++;
+                            } else {
+                                break;
+                            }
+                        }
+                        value.append(tuples.charAt(i));
+                    }
+                    row.add(value.toString());
+                } else if (c == '(') {
+                    depth++;
+                } else if (c == ')' && --depth == 0) {
+                    batch.add(sql, row.toArray());
+                    row.clear();
+                } else if (c != ',' && !Character.isWhitespace(c)) {
+                    int end = i;
+                    while (end < tuples.length() && ",)".indexOf(tuples.charAt(end)) < 0) {
+                        end++;
+                    }
+                    String literal = tuples.substring(i, end).trim();
+                    row.add(literal.equalsIgnoreCase("null") ? null : literal);
+                    i = end - 1;
+                }
+            }
+        }
+    }
+
+    private void loadCsv(Reader reader, String table, Batch batch) throws IOException, SQLException {
+        List<String> header = nextRecord(reader);
+        if (header == null) {
+            return;
+        }
+        String sql = insertSql(table, header.toArray(String[]::new));
+        for (List<String> record; (record = nextRecord(reader)) != null; ) {
+            if (record.size() == 1 && record.get(0) == null) {
+                continue;
+            }
+            if (record.size() != header.size()) {
+                throw new IllegalArgumentException("Expected " + header.size() + " values for "
+                    + table + " but found " + record.size() + ": " + record);
+            }
+            batch.add(sql, record.toArray());
+        }
+    }
+
+    private static String insertSql(String table, String[] columns) {
+        StringBuilder sql = new StringBuilder("insert into ").append(table).append(" (");
+        for (int i = 0; i < columns.length; i++) {
+            sql.append(i == 0 ? "" : ", ").append(columns[i].trim());
+        }
+        sql.append(") values (").append("?, ".repeat(columns.length - 1)).append("?)");
+        return sql.toString();
+    }
+
+    //  The column type behind each '?', from the driver's parameter metadata.
+    private static int[] parameterTypes(PreparedStatement statement) throws SQLException {
+        ParameterMetaData metaData = statement.getParameterMetaData();
+        int[] types = new int[metaData.getParameterCount()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = metaData.getParameterType(i + 1);
+        }
+        return types;
+    }
+
+    //  The next ';'-terminated statement, skipping '--' comments outside of quotes.
+    private static String nextStatement(Reader reader) throws IOException {
+        StringBuilder statement = new StringBuilder();
+        boolean quoted = false;
+        for (int c; (c = reader.read()) != -1; ) {
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == ';') {
+                return statement.toString();
+            } else if (!quoted && c == '-' && statement.length() > 0
+                    && statement.charAt(statement.length() - 1) == '-') {
+                statement.setLength(statement.length() - 1);
+                while ((c = reader.read()) != -1 && c != '\n') {
+                }
+                statement.append('\n');
+                continue;
+            }
+            statement.append((char) c);
+        }
+        return statement.toString().isBlank() ? null : statement.toString();
+    }
+
+    //  The next CSV record.  Fields may be quoted with '"' and contain commas, line breaks
+    //  and doubled quotes; an empty unquoted field is NULL.
+    private static List<String> nextRecord(Reader reader) throws IOException {
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        for (; c != -1; c = reader.read()) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = wasQuoted = true;
+            } else if (c == ',' || c == '\n') {
+                record.add(wasQuoted || field.length() > 0 ? field.toString() : null);
+                field.setLength(0);
+                wasQuoted = false;
+                if (c == '\n') {
+                    return record;
+                }
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        record.add(wasQuoted || field.length() > 0 ? field.toString() : null);
+        return record;
+    }
+
+    //  Batches rows for the current statement.  A statement change sends the pending
+    //  batch first, so rows reach the database in file order.
+    private final class Batch implements AutoCloseable {
+
+        private final Connection connection;
+        private String sql;
+        private PreparedStatement statement;
+        private int[] types;
+        private int pending;
+        private long rows;
+
+        Batch(Connection connection) {
+            this.connection = connection;
+        }
+
+        void add(String sql, Object[] values) throws SQLException {
+            if (!sql.equals(this.sql)) {
+                flush();
+                close();
+                this.sql = sql;
+                this.statement = connection.prepareStatement(sql);
+                this.types = parameterTypes(statement);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    statement.setNull(i + 1, types[i]);
+                } else {
+                    statement.setObject(i + 1, values[i], types[i]);
+                }
+            }
+            statement.addBatch();
+            rows++;
+            if (++pending == batchSize) {
+                flush();
+            }
+            if (rows % commitInterval == 0) {
+                flush();
+                connection.commit();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (statement != null) {
+                statement.close();
+                statement = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.support;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.index.CandidateComponentsIndex;
+import org.springframework.context.index.CandidateComponentsIndexLoader;
+import org.springframework.stereotype.Component;
+
+//  Reports whether @ComponentScan was answered from the compile-time index 
+//  (META-INF/spring.components, written by spring-context-indexer) or had to 
+//  fall back to walking the classpath.  Runs after scanning has already happened.
+//  The index is deprecated in Spring 6.1 in favor of AOT processing, hence the
+//  suppression; it is still honored throughout 6.x.  Labs register it only with the
+//  "component-index" profile, so it does not print on every start.
+@SuppressWarnings("removal")
+public class ComponentIndexReport implements BeanFactoryPostProcessor, BeanClassLoaderAware {
+
+    private final String basePackage;
+    private ClassLoader classLoader;
+
+    public ComponentIndexReport(String basePackage) {
+        this.basePackage = basePackage;
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        System.out.println(report());
+    }
+
+    public String report() {
+        CandidateComponentsIndex index = CandidateComponentsIndexLoader.loadIndex(classLoader);
+        if (index == null) {
+            return "No component index on the classpath; scanned " + basePackage + " instead";
+        }
+        int candidates = index.getCandidateTypes(basePackage, Component.class.getName()).size();
+        return "Component index: " + candidates + " candidates under " + basePackage;
+    }
+}
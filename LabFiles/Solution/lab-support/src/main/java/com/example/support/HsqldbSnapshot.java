@@ -0,0 +1,117 @@
+package com.example.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HexFormat;
+
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.util.FileSystemUtils;
+
+//  A file-backed HSQLDB database built once from the schema and data scripts and kept 
+//  under <snapshot dir>/<SHA-256 of the scripts>, so editing a script forces a rebuild.  
+//  Each open() copies the snapshot into a private temporary directory and opens the 
+//  copy, which keeps runs as isolated as a fresh in-memory database; copying files is 
+//  far cheaper than replaying millions of INSERTs.  Tables are created CACHED, so the 
+//  rows stay on disk instead of being loaded into memory on open.
+public final class HsqldbSnapshot {
+
+    private static final String DB = "db";
+
+    private HsqldbSnapshot() {
+    }
+
+    public static SnapshotDataSource open(Path snapshotDir, Resource... scripts) {
+        try {
+            Path snapshot = snapshotDir.resolve(hash(scripts));
+            if (!Files.isDirectory(snapshot)) {
+                build(snapshot, scripts);
+            }
+            long start = System.nanoTime();
+            Path copy = Files.createTempDirectory("hsqldb-snapshot-");
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(snapshot)) {
+                for (Path file : files) {
+                    Files.copy(file, copy.resolve(file.getFileName()));
+                }
+            }
+            System.out.printf("Opened HSQLDB snapshot %s (copied in %.1f ms)%n", 
+                snapshot.getFileName(), (System.nanoTime() - start) / 1e6);
+            return new SnapshotDataSource(copy);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //  Builds into a scratch directory and renames it into place, so a concurrent start 
+    //  never sees a half-built snapshot.  If another process wins the race, keep theirs.
+    private static void build(Path snapshot, Resource... scripts) throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(snapshot.getParent());
+        Path scratch = Files.createTempDirectory(snapshot.getParent(), snapshot.getFileName() + ".building-");
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url(scratch), "SA", "");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SET DATABASE DEFAULT TABLE TYPE CACHED");
+            new ResourceDatabasePopulator(scripts).populate(connection);
+            statement.execute("SHUTDOWN COMPACT");
+        } catch (SQLException e) {
+            FileSystemUtils.deleteRecursively(scratch);
+            throw new IllegalStateException("Could not build HSQLDB snapshot " + snapshot, e);
+        }
+        try {
+            Files.move(scratch, snapshot, StandardCopyOption.ATOMIC_MOVE);
+            System.out.printf("Built HSQLDB snapshot %s in %.1f ms%n", 
+                snapshot.getFileName(), (System.nanoTime() - start) / 1e6);
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+            FileSystemUtils.deleteRecursively(scratch);
+        }
+    }
+
+    private static String hash(Resource... scripts) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (Resource script : scripts) {
+            digest.update(script.getContentAsByteArray());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String url(Path directory) {
+        return "jdbc:hsqldb:file:" + directory.resolve(DB);
+    }
+
+    //  Shuts the copy down and deletes it when the context closes.
+    public static final class SnapshotDataSource extends DriverManagerDataSource implements AutoCloseable {
+
+        private final Path directory;
+
+        SnapshotDataSource(Path directory) {
+            super(url(directory), "SA", "");
+            this.directory = directory;
+        }
+
+        @Override
+        public void close() throws SQLException, IOException {
+            try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("SHUTDOWN");
+            } finally {
+                FileSystemUtils.deleteRecursively(directory);
+            }
+        }
+    }
+}
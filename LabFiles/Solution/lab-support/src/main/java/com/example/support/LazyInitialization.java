@@ -0,0 +1,71 @@
+package com.example.support;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+
+//  Marks every application bean lazy, so a context that never touches a bean never pays
+//  for creating it.  Infrastructure beans, post-processors and beans that already say
+//  @Lazy(false) keep their eager initialization.  Each lazy bean's creation time is
+//  printed when it is first requested, to show whether laziness only moved the cost
+//  into the first request.  The time includes any lazy dependencies created with it.
+public class LazyInitialization implements BeanFactoryPostProcessor {
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        Set<String> postProcessors = new HashSet<>(
+            Arrays.asList(beanFactory.getBeanNamesForType(BeanFactoryPostProcessor.class, true, false)));
+        postProcessors.addAll(Arrays.asList(beanFactory.getBeanNamesForType(BeanPostProcessor.class, true, false)));
+
+        Set<String> lazy = ConcurrentHashMap.newKeySet();
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (definition.getRole() == BeanDefinition.ROLE_APPLICATION && definition.isSingleton()
+                    && !definition.isLazyInit() && !postProcessors.contains(name)
+                    && !(definition instanceof AbstractBeanDefinition abd && Boolean.FALSE.equals(abd.getLazyInit()))) {
+                definition.setLazyInit(true);
+                lazy.add(name);
+            }
+        }
+        System.out.println("Lazy initialization: " + lazy.size() + " application beans marked lazy");
+        beanFactory.addBeanPostProcessor(new FirstUseLatency(lazy));
+    }
+
+    private static class FirstUseLatency implements InstantiationAwareBeanPostProcessor {
+
+        private final Set<String> lazy;
+        private final Map<String, Long> started = new ConcurrentHashMap<>();
+
+        FirstUseLatency(Set<String> lazy) {
+            this.lazy = lazy;
+        }
+
+        @Override
+        public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
+            if (lazy.contains(beanName)) {
+                started.putIfAbsent(beanName, System.nanoTime());
+            }
+            return null;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            Long start = started.remove(beanName);
+            if (start != null && lazy.remove(beanName)) {
+                System.out.printf("Lazy bean '%s' created on first use in %.1f ms%n",
+                    beanName, (System.nanoTime() - start) / 1e6);
+            }
+            return bean;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.support;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+//  Cold-start probe for the startupBenchmark task: refreshes the configuration class 
+//  named by the first argument once and prints one line of measurements for the task 
+//  to parse.
+//    ready_ms    JVM uptime when refresh() returned, so JVM boot and class loading count
+//    refresh_ms  refresh() alone
+//    classes     classes loaded by then
+//    heap_kb     heap still in use after a GC, i.e. what the context keeps alive
+//  Profiles and other settings come from system properties, e.g. -Dspring.profiles.active.
+public class StartupProbe {
+
+    public static void main(String[] args) throws ClassNotFoundException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: StartupProbe <configuration class>");
+        }
+        System.out.println(probe(Class.forName(args[0])));
+    }
+
+    public static String probe(Class<?> configClass) {
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext()) {
+            spring.register(configClass);
+            long start = System.nanoTime();
+            spring.refresh();
+            long refresh = System.nanoTime() - start;
+            long ready = ManagementFactory.getRuntimeMXBean().getUptime();
+            int classes = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+            System.gc();
+            long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            return String.format(Locale.ROOT, "startup ready_ms=%d refresh_ms=%.1f classes=%d heap_kb=%d",
+                ready, refresh / 1e6, classes, heap >> 10);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.metrics.jfr.FlightRecorderApplicationStartup;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+//  Opt-in startup instrumentation.  With -Dstartup.profile=<dir>, every StartupStep of 
+//  the refresh (component scanning, configuration class parsing, post-processors, bean 
+//  instantiation) is timed.  When the refresh ends, a table of the steps, slowest first 
+//  by self time, is printed and written to <dir>/startup-steps.txt, and the same steps 
+//  are dumped as JFR events to <dir>/startup.jfr.  Without the property the context 
+//  keeps Spring's no-op ApplicationStartup.
+public class StartupProfiler implements ApplicationStartup {
+
+    public static final String PROPERTY = "startup.profile";
+
+    private static final String REFRESH = "spring.context.refresh";
+
+    private final Path outputDir;
+    private final ApplicationStartup flightRecorder = new FlightRecorderApplicationStartup();
+    private final Recording recording;
+    private final List<ProfiledStep> ended = new ArrayList<>();
+    private final ThreadLocal<Deque<ProfiledStep>> open = ThreadLocal.withInitial(ArrayDeque::new);
+
+    //  Call before refresh(), e.g. on a context built with its no-argument constructor.
+    public static <C extends ConfigurableApplicationContext> C attachIfEnabled(C context) {
+        String outputDir = System.getProperty(PROPERTY);
+        if (outputDir != null) {
+            context.setApplicationStartup(new StartupProfiler(Path.of(outputDir)));
+        }
+        return context;
+    }
+
+    public StartupProfiler(Path outputDir) {
+        this.outputDir = outputDir;
+        try {
+            recording = new Recording(Configuration.getConfiguration("default"));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load the default JFR configuration", e);
+        }
+        recording.setName("spring-startup");
+        recording.start();
+    }
+
+    @Override
+    public StartupStep start(String name) {
+        Deque<ProfiledStep> stack = open.get();
+        ProfiledStep step = new ProfiledStep(name, flightRecorder.start(name), stack.peek());
+        stack.push(step);
+        return step;
+    }
+
+    private void ended(ProfiledStep step) {
+        open.get().remove(step);
+        synchronized (ended) {
+            ended.add(step);
+        }
+        if (REFRESH.equals(step.name)) {
+            report();
+        }
+    }
+
+    private void report() {
+        List<ProfiledStep> steps;
+        synchronized (ended) {
+            steps = new ArrayList<>(ended);
+        }
+        steps.sort(Comparator.comparingLong(ProfiledStep::selfNanos).reversed());
+
+        StringBuilder table = new StringBuilder()
+            .append("Startup steps, slowest first (ms; self excludes nested steps)\n")
+            .append(String.format("%9s %9s  %-44s %s%n", "total", "self", "step", "detail"));
+        for (ProfiledStep step : steps) {
+            table.append(String.format("%9.1f %9.1f  %-44s %s%n",
+                step.totalNanos / 1e6, step.selfNanos() / 1e6, step.name, step.detail));
+        }
+        System.out.print(table);
+
+        try {
+            Files.createDirectories(outputDir);
+            Files.writeString(outputDir.resolve("startup-steps.txt"), table);
+            recording.stop();
+            recording.dump(outputDir.resolve("startup.jfr"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            recording.close();
+        }
+    }
+
+    private final class ProfiledStep implements StartupStep {
+        private final String name;
+        private final StartupStep delegate;
+        private final ProfiledStep parent;
+        private final long startNanos = System.nanoTime();
+        private String detail = "";
+        private long totalNanos;
+        private long nestedNanos;
+
+        ProfiledStep(String name, StartupStep delegate, ProfiledStep parent) {
+            this.name = name;
+            this.delegate = delegate;
+            this.parent = parent;
+        }
+
+        long selfNanos() {
+            return totalNanos - nestedNanos;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public Long getParentId() {
+            return delegate.getParentId();
+        }
+
+        @Override
+        public StartupStep tag(String key, String value) {
+            delegate.tag(key, value);
+            //  The bean name is what we want in the table when there is one.
+            if (detail.isEmpty() || "beanName".equals(key)) {
+                detail = value;
+            }
+            return this;
+        }
+
+        @Override
+        public StartupStep tag(String key, Supplier<String> value) {
+            return tag(key, value.get());
+        }
+
+        @Override
+        public Tags getTags() {
+            return delegate.getTags();
+        }
+
+        @Override
+        public void end() {
+            totalNanos = System.nanoTime() - startNanos;
+            if (parent != null) {
+                parent.nestedNanos += totalNanos;
+            }
+            delegate.end();
+            ended(this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+public class BackgroundBootstrapTests {
+
+    @Test
+    public void injectsBackgroundBeansLazilyWithExecutor() {
+        try (AnnotationConfigApplicationContext spring = context("parallel")) {
+            Consumer consumer = spring.getBean(Consumer.class);
+
+            assertThat(AopUtils.isAopProxy(consumer.resource)).isTrue();
+            assertThat(AopUtils.isAopProxy(consumer.other)).isFalse();
+            assertThat(consumer.resource.get()).isEqualTo("ready");
+        }
+    }
+
+    @Test
+    public void injectsBackgroundBeansDirectlyWithoutExecutor() {
+        try (AnnotationConfigApplicationContext spring = context("serial")) {
+            Consumer consumer = spring.getBean(Consumer.class);
+
+            assertThat(AopUtils.isAopProxy(consumer.resource)).isFalse();
+            assertThat(consumer.resource.get()).isEqualTo("ready");
+        }
+    }
+
+    private static AnnotationConfigApplicationContext context(String... profiles) {
+        AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext();
+        spring.getEnvironment().setActiveProfiles(profiles);
+        spring.register(BootstrapConfig.class);
+        spring.refresh();
+        return spring;
+    }
+
+    interface Resource extends Supplier<String> {
+    }
+
+    record Consumer(Resource resource, Runnable other) {
+    }
+
+    @Configuration
+    static class BootstrapConfig {
+
+        @Bean(bootstrap = Bean.Bootstrap.BACKGROUND)
+        public Resource resource() throws InterruptedException {
+            Thread.sleep(100);
+            return () -> "ready";
+        }
+
+        @Bean
+        public Runnable other() {
+            return () -> { };
+        }
+
+        @Bean
+        public Consumer consumer(Resource resource, Runnable other) {
+            return new Consumer(resource, other);
+        }
+
+        @Bean(name = ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME)
+        @Profile("parallel")
+        public ThreadPoolTaskExecutor bootstrapExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setDaemon(true);
+            return executor;
+        }
+
+        @Bean
+        @Profile("parallel")
+        public static BackgroundBootstrap backgroundBootstrap() {
+            return new BackgroundBootstrap();
+        }
+    }
+}
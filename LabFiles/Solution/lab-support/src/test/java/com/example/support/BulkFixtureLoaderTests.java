@@ -0,0 +1,131 @@
+package com.example.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+public class BulkFixtureLoaderTests {
+
+    static final String SCHEMA = """
+        CREATE TABLE PURCHASE (ID INTEGER GENERATED ALWAYS AS IDENTITY (START WITH 1) PRIMARY KEY, 
+            CUSTOMERNAME VARCHAR(255), PRODUCT VARCHAR(255), PURCHASEDATE TIMESTAMP);
+        CREATE TABLE LINEITEM (PURCHASEID INTEGER, QUANTITY INTEGER, PRICE DECIMAL(10, 2), 
+            SHIPPED DATE, GIFT BOOLEAN);
+        """;
+
+    EmbeddedDatabase db;
+    JdbcClient client;
+
+    @BeforeEach
+    public void createSchema() {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.HSQL)
+            .generateUniqueName(true)
+            .build();
+        new ResourceDatabasePopulator(fixture("schema.sql", SCHEMA)).execute(db);
+        client = JdbcClient.create(db);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        db.shutdown();
+    }
+
+    @Test
+    public void loadsDataSql() {
+        Resource sql = fixture("data.sql", """
+            insert into PURCHASE (CUSTOMERNAME, PRODUCT, PURCHASEDATE)
+            values('Bruce','Mountain Bike','2010-05-12 00:00:00.0');
+            insert into PURCHASE (CUSTOMERNAME, PRODUCT, PURCHASEDATE)
+            values('Paul','Football','2010-04-30 00:00:00.0');
+            insert into PURCHASE (CUSTOMERNAME, PRODUCT, PURCHASEDATE)
+            values('Rick','Kayak','2010-06-05 00:00:00.0');
+            """);
+
+        long rows = new BulkFixtureLoader(2, 2, 1).load(db, sql);
+
+        assertThat(rows).isEqualTo(3);
+        assertThat(client.sql("select CUSTOMERNAME from PURCHASE order by ID")
+            .query(String.class).list()).containsExactly("Bruce", "Paul", "Rick");
+        assertThat(client.sql("select PURCHASEDATE from PURCHASE where ID = 2")
+            .query(Timestamp.class).single()).isEqualTo(Timestamp.valueOf("2010-04-30 00:00:00"));
+    }
+
+    @Test
+    public void loadsMultiRowInsertsAndCsvInParallel() {
+        Resource sql = fixture("more.sql", """
+            -- comment; with a semicolon
+            insert into PURCHASE (CUSTOMERNAME, PRODUCT, PURCHASEDATE)
+            values ('O''Brien', 'Kite; red', '2011-01-01 00:00:00'), ('Ann', NULL, NULL);
+            """);
+        Resource csv = fixture("PURCHASE.csv", """
+            CUSTOMERNAME,PRODUCT,PURCHASEDATE
+            Carl,"Tent, 2 person",2012-02-02 00:00:00
+
+            "Dee","Say \"\"hi\"\"",
+            """);
+
+        long rows = new BulkFixtureLoader(1000, 1000, 2).load(db, sql, csv);
+
+        assertThat(rows).isEqualTo(4);
+        assertThat(client.sql("select PRODUCT from PURCHASE where CUSTOMERNAME = 'O''Brien'")
+            .query(String.class).single()).isEqualTo("Kite; red");
+        assertThat(client.sql("select PRODUCT from PURCHASE where CUSTOMERNAME = 'Carl'")
+            .query(String.class).single()).isEqualTo("Tent, 2 person");
+        assertThat(client.sql("select PRODUCT from PURCHASE where CUSTOMERNAME = 'Dee'")
+            .query(String.class).single()).isEqualTo("Say \"hi\"");
+        assertThat(client.sql("select count(*) from PURCHASE where PURCHASEDATE is null")
+            .query(Integer.class).single()).isEqualTo(2);
+    }
+
+    @Test
+    public void bindsValuesWithTheColumnTypes() {
+        Resource sql = fixture("items.sql", """
+            insert into LINEITEM (PURCHASEID, QUANTITY, PRICE, SHIPPED, GIFT)
+            values (1, 3, 19.99, '2010-05-13', TRUE), (2, 10, 0.5, NULL, false);
+            """);
+        Resource csv = fixture("LINEITEM.csv", """
+            PURCHASEID,QUANTITY,PRICE,SHIPPED,GIFT
+            3,1,1250.00,2010-06-07,true
+            """);
+
+        new BulkFixtureLoader(10, 10, 1).load(db, sql, csv);
+
+        assertThat(client.sql("select sum(QUANTITY) from LINEITEM").query(Integer.class).single()).isEqualTo(14);
+        assertThat(client.sql("select sum(PRICE) from LINEITEM").query(BigDecimal.class).single())
+            .isEqualByComparingTo("1270.49");
+        assertThat(client.sql("select count(*) from LINEITEM where GIFT").query(Integer.class).single()).isEqualTo(2);
+        assertThat(client.sql("select max(SHIPPED) from LINEITEM").query(String.class).single()).isEqualTo("2010-06-07");
+    }
+
+    @Test
+    public void rejectsOtherStatements() {
+        Resource sql = fixture("bad.sql", "delete from PURCHASE;");
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new BulkFixtureLoader(10, 10, 1).load(db, sql));
+    }
+
+    private static Resource fixture(String name, String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return name;
+            }
+        };
+    }
+}
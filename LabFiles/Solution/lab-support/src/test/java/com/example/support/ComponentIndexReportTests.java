@@ -0,0 +1,47 @@
+package com.example.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ComponentIndexReportTests {
+
+    @TempDir Path dir;
+
+    @Test
+    public void countsIndexedCandidatesUnderThePackage() throws IOException {
+        Path index = dir.resolve("META-INF/spring.components");
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, """
+            com.example.service.RegisterImpl=org.springframework.stereotype.Component
+            com.example.service.tax.TaxCalculatorImpl=org.springframework.stereotype.Component
+            com.example.dao.PurchaseDaoImpl=org.springframework.stereotype.Component
+            """);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, null)) {
+            assertThat(report("com.example.service", classLoader))
+                .isEqualTo("Component index: 2 candidates under com.example.service");
+        }
+    }
+
+    @Test
+    public void saysSoWhenThereIsNoIndex() throws IOException {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, null)) {
+            assertThat(report("com.example", classLoader))
+                .isEqualTo("No component index on the classpath; scanned com.example instead");
+        }
+    }
+
+    private static String report(String basePackage, ClassLoader classLoader) {
+        ComponentIndexReport report = new ComponentIndexReport(basePackage);
+        report.setBeanClassLoader(classLoader);
+        return report.report();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import com.example.support.HsqldbSnapshot.SnapshotDataSource;
+
+public class HsqldbSnapshotTests {
+
+    static final String SCHEMA = """
+        CREATE TABLE PURCHASE (ID INTEGER GENERATED ALWAYS AS IDENTITY (START WITH 1) PRIMARY KEY, 
+            CUSTOMERNAME VARCHAR(255), PRODUCT VARCHAR(255), PURCHASEDATE TIMESTAMP);
+        """;
+    static final String DATA = """
+        insert into PURCHASE (CUSTOMERNAME, PRODUCT, PURCHASEDATE) 
+        values ('Bruce', 'Mountain Bike', '2010-05-12 00:00:00.0');
+        insert into PURCHASE (CUSTOMERNAME, PRODUCT, PURCHASEDATE) 
+        values ('Paul', 'Football', '2010-04-30 00:00:00.0');
+        """;
+
+    @TempDir Path snapshotDir;
+
+    @Test
+    public void buildsOnceAndGivesEachOpenItsOwnCopy() throws Exception {
+        try (SnapshotDataSource first = open(); SnapshotDataSource second = open()) {
+            try (Stream<Path> snapshots = Files.list(snapshotDir)) {
+                assertThat(snapshots).hasSize(1);
+            }
+
+            JdbcClient firstClient = JdbcClient.create(first);
+            JdbcClient secondClient = JdbcClient.create(second);
+            int rows = count(firstClient);
+            assertThat(rows).isGreaterThan(0);
+            assertThat(firstClient.sql("select CUSTOMERNAME from PURCHASE where ID = 1")
+                .query(String.class).single()).isEqualTo("Bruce");
+
+            //  Changes to one copy are not seen by the other:
+            firstClient.sql("delete from PURCHASE").update();
+            assertThat(count(firstClient)).isZero();
+            assertThat(count(secondClient)).isEqualTo(rows);
+        }
+    }
+
+    @Test
+    public void rebuildsWhenAScriptChanges() throws Exception {
+        String emptied = DATA + "delete from PURCHASE;";
+        try (SnapshotDataSource first = open(); 
+                SnapshotDataSource second = HsqldbSnapshot.open(snapshotDir, script(SCHEMA), script(emptied))) {
+            try (Stream<Path> snapshots = Files.list(snapshotDir)) {
+                assertThat(snapshots).hasSize(2);
+            }
+            assertThat(count(JdbcClient.create(second))).isZero();
+        }
+    }
+
+    private SnapshotDataSource open() {
+        return HsqldbSnapshot.open(snapshotDir, script(SCHEMA), script(DATA));
+    }
+
+    private static ByteArrayResource script(String sql) {
+        return new ByteArrayResource(sql.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int count(JdbcClient client) {
+        return client.sql("select count(*) from PURCHASE").query(Integer.class).single();
+    }
+}
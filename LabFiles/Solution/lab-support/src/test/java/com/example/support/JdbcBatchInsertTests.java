@@ -0,0 +1,92 @@
+package com.example.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class JdbcBatchInsertTests {
+
+    EmbeddedDatabase db;
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void createTable() {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.HSQL)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate(db);
+        jdbcTemplate.execute("create table ITEM (ID integer, NAME varchar(20))");
+    }
+
+    @AfterEach
+    public void shutdown() {
+        db.shutdown();
+    }
+
+    @Test
+    public void insertsInBatchesAndCommitsEveryInterval() {
+        BatchStats stats = insert(4, 10).insert(items(25));
+
+        assertThat(stats.rows()).isEqualTo(25);
+        assertThat(stats.commits()).isEqualTo(3);
+        assertThat(stats.nanos()).isPositive();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from ITEM", Integer.class)).isEqualTo(25);
+        assertThat(jdbcTemplate.queryForObject("select NAME from ITEM where ID = 24", String.class)).isEqualTo("item 24");
+    }
+
+    @Test
+    public void leavesCommitsToASurroundingTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(db));
+
+        BatchStats stats = transaction.execute(status -> {
+            status.setRollbackOnly();
+            return insert(4, 10).insert(items(25));
+        });
+
+        assertThat(stats.commits()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from ITEM", Integer.class)).isZero();
+    }
+
+    @Test
+    public void commitsItselfWhenTheTransactionIsSuspended() {
+        TransactionTemplate notSupported = new TransactionTemplate(new DataSourceTransactionManager(db));
+        notSupported.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+
+        BatchStats stats = notSupported.execute(status -> insert(4, 10).insert(items(25)));
+
+        assertThat(stats.commits()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from ITEM", Integer.class)).isEqualTo(25);
+    }
+
+    @Test
+    public void needsPositiveSizes() {
+        assertThatIllegalArgumentException().isThrownBy(() -> insert(0, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> insert(10, 0));
+    }
+
+    private JdbcBatchInsert<Integer> insert(int batchSize, int commitInterval) {
+        return new JdbcBatchInsert<>(jdbcTemplate, "insert into ITEM (ID, NAME) values (?, ?)", 
+            (statement, id) -> {
+                statement.setInt(1, id);
+                statement.setString(2, "item " + id);
+            }, batchSize, commitInterval);
+    }
+
+    private static List<Integer> items(int count) {
+        return IntStream.range(0, count).boxed().toList();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+public class LazyInitializationTests {
+
+    static final List<String> created = new ArrayList<>();
+
+    @Test
+    public void createsApplicationBeansOnFirstUse() {
+        created.clear();
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext(LazyConfig.class)) {
+            ConfigurableListableBeanFactory beanFactory = spring.getBeanFactory();
+
+            assertThat(created).containsExactly("eager");
+            assertThat(beanFactory.getBeanDefinition("service").isLazyInit()).isTrue();
+            assertThat(beanFactory.getBeanDefinition("eager").isLazyInit()).isFalse();
+            assertThat(beanFactory.getBeanDefinition("lazyInitialization").isLazyInit()).isFalse();
+
+            //  Asking for the service creates its repository with it:
+            spring.getBean("service");
+            assertThat(created).containsExactly("eager", "repository", "service");
+            assertThat(beanFactory.containsSingleton("unused")).isFalse();
+        }
+    }
+
+    @Configuration
+    static class LazyConfig {
+
+        @Bean
+        public static LazyInitialization lazyInitialization() {
+            return new LazyInitialization();
+        }
+
+        @Bean
+        public String repository() {
+            created.add("repository");
+            return "repository";
+        }
+
+        @Bean
+        public Runnable service(String repository) {
+            created.add("service");
+            return () -> { };
+        }
+
+        @Bean
+        public Object unused() {
+            created.add("unused");
+            return new Object();
+        }
+
+        @Bean
+        @Lazy(false)
+        public Integer eager() {
+            created.add("eager");
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+public class QueryPlansTests {
+
+    EmbeddedDatabase db;
+    QueryPlans plans = new QueryPlans();
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void createTable() {
+        db = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.HSQL)
+            .generateUniqueName(true)
+            .build();
+        jdbcTemplate = new JdbcTemplate((DataSource) plans.postProcessAfterInitialization(db, "dataSource"));
+        jdbcTemplate.execute("create table ITEM (ID integer primary key, NAME varchar(20))");
+        jdbcTemplate.update("insert into ITEM values (1, 'one')");
+    }
+
+    @AfterEach
+    public void shutdown() {
+        db.shutdown();
+    }
+
+    @Test
+    public void recordsTheSqlSentThroughTheDataSource() {
+        assertThat(plans.capture(() -> {
+            jdbcTemplate.update("insert into ITEM values (?, ?)", 2, "two");
+            jdbcTemplate.queryForObject("select NAME from ITEM where ID = ?", String.class, 2);
+        })).containsExactly("insert into ITEM values (?, ?)", "select NAME from ITEM where ID = ?");
+    }
+
+    @Test
+    public void indexLookupPasses() {
+        assertThatCode(() -> plans.assertNoFullScan(
+            () -> jdbcTemplate.queryForObject("select NAME from ITEM where ID = ?", String.class, 1)))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    public void fullScanIsReported() {
+        assertThatThrownBy(() -> plans.assertNoFullScan(
+            () -> jdbcTemplate.queryForList("select ID from ITEM where NAME = ?", Integer.class, "one")))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("select ID from ITEM where NAME = ?")
+            .hasMessageContaining("access=FULL SCAN");
+    }
+
+    @Test
+    public void explainsSelectsBehindLeadingComments() {
+        assertThatThrownBy(() -> plans.assertNoFullScan(
+            () -> jdbcTemplate.queryForList("/* by name */ select ID from ITEM where NAME = ?", Integer.class, "one")))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Full table scan");
+    }
+
+    @Test
+    public void failsWhenNothingWasSelected() {
+        assertThatThrownBy(() -> plans.assertNoFullScan(
+            () -> jdbcTemplate.update("insert into ITEM values (?, ?)", 3, "three")))
+            .isInstanceOf(AssertionError.class)
+            .hasMessage("No SELECT was sent");
+    }
+}
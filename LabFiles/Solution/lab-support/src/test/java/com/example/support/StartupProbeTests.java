@@ -0,0 +1,47 @@
+package com.example.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+public class StartupProbeTests {
+
+    @Test
+    public void printsOneLineTheBenchmarkTaskCanParse() {
+        String line = StartupProbe.probe(SlowBeanConfig.class);
+
+        //  Same parsing as startupReport in startup.gradle:
+        assertThat(line).startsWith("startup ").doesNotContain("\n");
+        Map<String, Double> values = Stream.of(line.split(" ")).skip(1)
+            .map(pair -> pair.split("="))
+            .collect(Collectors.toMap(pair -> pair[0], pair -> Double.valueOf(pair[1])));
+
+        assertThat(values).containsOnlyKeys("ready_ms", "refresh_ms", "classes", "heap_kb");
+        assertThat(values.get("refresh_ms")).isGreaterThanOrEqualTo(50.0);
+        assertThat(values.get("ready_ms")).isGreaterThanOrEqualTo(values.get("refresh_ms"));
+        assertThat(values.get("classes")).isPositive();
+        assertThat(values.get("heap_kb")).isPositive();
+    }
+
+    @Test
+    public void needsTheConfigurationClass() {
+        assertThatIllegalArgumentException().isThrownBy(() -> StartupProbe.main(new String[0]));
+    }
+
+    @Configuration
+    static class SlowBeanConfig {
+
+        @Bean
+        public Object slowBean() throws InterruptedException {
+            Thread.sleep(60);
+            return new Object();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+public class StartupProfilerTests {
+
+    @TempDir Path dir;
+
+    @Test
+    public void writesStepTableAndRecordingWhenRefreshEnds() throws IOException {
+        try (AnnotationConfigApplicationContext spring = new AnnotationConfigApplicationContext()) {
+            spring.setApplicationStartup(new StartupProfiler(dir));
+            spring.register(SlowBeanConfig.class);
+            spring.refresh();
+        }
+
+        List<String> table = Files.readAllLines(dir.resolve("startup-steps.txt"));
+        assertThat(table.get(0)).startsWith("Startup steps, slowest first");
+        assertThat(table.get(1)).contains("total", "self", "step", "detail");
+
+        //  The refresh step is the slowest in total, but most of its time is nested:
+        String refresh = row(table, "spring.context.refresh");
+        String slowBean = row(table, "slowBean");
+        assertThat(total(refresh)).isGreaterThanOrEqualTo(total(slowBean));
+        assertThat(self(refresh)).isLessThan(total(refresh));
+        assertThat(self(slowBean)).isGreaterThanOrEqualTo(50.0);
+        assertThat(slowBean).contains("spring.beans.instantiate");
+
+        assertThat(Files.size(dir.resolve("startup.jfr"))).isPositive();
+    }
+
+    @Test
+    public void attachesOnlyWhenPropertyIsSet() {
+        System.clearProperty(StartupProfiler.PROPERTY);
+        try (AnnotationConfigApplicationContext spring = 
+                StartupProfiler.attachIfEnabled(new AnnotationConfigApplicationContext())) {
+            assertThat(spring.getApplicationStartup()).isNotInstanceOf(StartupProfiler.class);
+        }
+    }
+
+    private static String row(List<String> table, String text) {
+        return table.stream().filter(line -> line.contains(text)).findFirst().orElseThrow(
+            () -> new AssertionError("No step with " + text + " in\n" + String.join("\n", table)));
+    }
+
+    private static double total(String row) {
+        return Double.parseDouble(row.trim().split("\\s+")[0]);
+    }
+
+    private static double self(String row) {
+        return Double.parseDouble(row.trim().split("\\s+")[1]);
+    }
+
+    @Configuration
+    static class SlowBeanConfig {
+
+        @Bean
+        public Object slowBean() throws InterruptedException {
+            Thread.sleep(60);
+            return new Object();
+        }
+    }
+}
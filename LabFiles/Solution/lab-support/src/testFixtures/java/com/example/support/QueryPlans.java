@@ -0,0 +1,116 @@
+package com.example.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+//  Test helper for checking that DAO queries use an index.  Registered in a test context,
+//  it wraps the DataSource bean so that every SQL string sent through it is recorded.
+//  assertNoFullScan() runs a piece of code, asks HSQLDB for the plan of each SELECT it
+//  sent (EXPLAIN PLAN FOR ...), and fails if any plan reads a table with a full scan.
+//  Works for SQL generated by an ORM too, since it records what reaches the driver.
+public class QueryPlans implements BeanPostProcessor {
+
+    //  Hibernate puts /* query comments */ in front of its SQL with hibernate.use_sql_comments.
+    private static final Pattern LEADING_COMMENTS = Pattern.compile("^\\s*(/\\*.*?\\*/\\s*)*", Pattern.DOTALL);
+
+    private final List<String> recorded = new CopyOnWriteArrayList<>();
+    private DataSource target;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && target == null) {
+            target = dataSource;
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return recording(Connection.class, super.getConnection());
+                }
+            };
+        }
+        return bean;
+    }
+
+    //  The SQL sent while action ran, in order.
+    public List<String> capture(Runnable action) {
+        recorded.clear();
+        action.run();
+        return List.copyOf(recorded);
+    }
+
+    public String explain(String sql) {
+        try (Connection connection = target.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("EXPLAIN PLAN FOR " + sql)) {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot explain " + sql, e);
+        }
+    }
+
+    public void assertNoFullScan(Runnable action) {
+        List<String> selects = capture(action).stream()
+            .map(sql -> LEADING_COMMENTS.matcher(sql).replaceFirst(""))
+            .filter(sql -> sql.toUpperCase(Locale.ROOT).startsWith("SELECT"))
+            .distinct()
+            .toList();
+        if (selects.isEmpty()) {
+            throw new AssertionError("No SELECT was sent");
+        }
+        List<String> failures = new ArrayList<>();
+        for (String sql : selects) {
+            String plan = explain(sql);
+            if (plan.contains("access=FULL SCAN")) {
+                failures.add(sql + "\n" + plan);
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError("Full table scan in:\n" + String.join("\n", failures));
+        }
+    }
+
+    //  Proxies a Connection or Statement, recording SQL strings passed to prepareStatement(),
+    //  execute...() and addBatch() and wrapping the statements it hands out in turn.
+    @SuppressWarnings("unchecked")
+    private <T> T recording(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (args != null && args.length > 0 && args[0] instanceof String sql && records(method)) {
+                recorded.add(sql);
+            }
+            try {
+                Object result = method.invoke(target, args);
+                if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                    return recording((Class<Statement>) method.getReturnType(), statement);
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private static boolean records(Method method) {
+        String name = method.getName();
+        return name.startsWith("prepare") || name.startsWith("execute") || name.equals("addBatch");
+    }
+}
@@ -0,0 +1,29 @@
+#!/bin/sh
+# Runs the startupBenchmark task of every lab module and prints one comparison table.
+#   ./startup-benchmark.sh [runs] [extra Gradle arguments...]
+# e.g. ./startup-benchmark.sh 5 -PstartupJvmArgs=-Dspring.profiles.active=lazy
+# Set GRADLE to use something other than each module's wrapper.
+cd "$(dirname "$0")" || exit 1
+runs=${1:-10}
+[ $# -gt 0 ] && shift
+
+header=
+rows=
+for module in [0-9][0-9]-*/; do
+    module=${module%/}
+    if [ -f "$module/app/build.gradle" ]; then
+        project="$module/app"
+    else
+        project="$module"
+    fi
+    echo "Benchmarking $module ($runs runs)..." >&2
+    (cd "$module" && ${GRADLE:-sh ./gradlew} -q startupBenchmark "-PstartupRuns=$runs" "$@" >/dev/null) || exit 1
+    report="$project/build/reports/startup/benchmark.tsv"
+    header=$(head -n 1 "$report")
+    rows="$rows$(tail -n +2 "$report")
+"
+done
+
+printf '%s\n%s' "$header" "$rows" | awk -F '\t' '
+    NR == 1 { printf "%-38s %-10s %5s %8s %9s %11s %8s %9s\n", $1, $2, $3, $4, $5, $6, $7, $8; next }
+    NF > 0  { printf "%-38s %-10s %5d %8.0f %9.0f %11.1f %8.0f %9.0f\n", $1, $2, $3, $4, $5, $6, $7, $8 }'